@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(project(":dsp:dsp-api"))
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    // report allocation rates next to the timings
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
+// benchmarks are not part of the distribution
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
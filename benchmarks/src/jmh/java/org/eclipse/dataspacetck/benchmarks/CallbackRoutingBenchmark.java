@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.core.system.DefaultCallbackEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures handler lookup of the {@link DefaultCallbackEndpoint} with a number of registered path expressions.
+ * <p>
+ * Routes are registered per scope, as in parallel and load runs, and cycle through the shapes used by the pipelines: a
+ * literal path, a path with an identifier segment and an expression that can only be matched as a whole. The looked up
+ * scope registers one route of each shape after the routes of the other scopes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackRoutingBenchmark {
+
+    /**
+     * The number of routes registered for other scopes.
+     */
+    @Param({"0", "16", "256"})
+    private int routes;
+
+    private DefaultCallbackEndpoint endpoint;
+    private String literalPath;
+    private String segmentPath;
+    private String fallbackPath;
+
+    @Setup
+    public void setUp() {
+        endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost:8080").build();
+        for (int i = 0; i < routes; i++) {
+            endpoint.registerHandler(expression("/scopes/" + i / 3, i % 3), body -> "");
+        }
+        for (int shape = 0; shape < 3; shape++) {
+            endpoint.registerHandler(expression("/scopes/target", shape), body -> "");
+        }
+        literalPath = "/scopes/target/negotiations/request";
+        segmentPath = "/scopes/target/negotiations/urn:uuid:8d3c5e1f/offers";
+        fallbackPath = "/scopes/target/transfers/urn:uuid:8d3c5e1f/events";
+    }
+
+    @Benchmark
+    public boolean lookupLiteral() {
+        return endpoint.handlesPath(literalPath);
+    }
+
+    @Benchmark
+    public boolean lookupSegmentPattern() {
+        return endpoint.handlesPath(segmentPath);
+    }
+
+    @Benchmark
+    public boolean lookupFallbackPattern() {
+        return endpoint.handlesPath(fallbackPath);
+    }
+
+    @Benchmark
+    public boolean lookupMiss() {
+        return endpoint.handlesPath("/scopes/unknown/negotiations/urn:uuid:8d3c5e1f/agreement");
+    }
+
+    private static String expression(String scope, int shape) {
+        return switch (shape) {
+            case 0 -> scope + "/negotiations/request";
+            case 1 -> scope + "/negotiations/[^/]+/offers";
+            default -> scope + "/transfers/.+/events";
+        };
+    }
+}
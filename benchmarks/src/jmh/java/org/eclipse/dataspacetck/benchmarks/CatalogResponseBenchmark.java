@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Catalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createCatalogResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createDataset;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.writeCatalogResponse;
+
+/**
+ * Compares serializing a catalog response built as nested maps with streaming it dataset by dataset. Run with the
+ * {@code gc} profiler to compare the bytes allocated per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogResponseBenchmark {
+
+    @Param({"100", "10000"})
+    private int datasets;
+
+    private Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = new Catalog("provider");
+        for (int i = 0; i < datasets; i++) {
+            catalog.addDataset(createDataset("dataset" + i));
+        }
+    }
+
+    @Benchmark
+    public String serializeCatalog() {
+        return serialize(createCatalogResponse(catalog));
+    }
+
+    @Benchmark
+    public long streamCatalog() {
+        var stream = new CountingOutputStream();
+        writeCatalogResponse(catalog, stream);
+        return stream.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int value) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
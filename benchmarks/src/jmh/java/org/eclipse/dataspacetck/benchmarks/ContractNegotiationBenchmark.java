@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.NegotiationKind.Provider;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+
+/**
+ * Measures state transitions of a {@link ContractNegotiation} shared by several threads, as when callbacks of the
+ * connector under test arrive while the pipeline acts on the negotiation.
+ * <p>
+ * Threads transition to the current state, which is a legal transition in {@code OFFERED}, so every operation publishes
+ * a snapshot and notifies the listener while competing for the same compare-and-set.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractNegotiationBenchmark {
+    private ContractNegotiation negotiation;
+
+    @Setup
+    public void setUp() {
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .correlationId("consumerPid")
+                .offerId("offer1")
+                .datasetId("dataset1")
+                .counterPartyId("consumer")
+                .callbackAddress("https://consumer.test/callback")
+                .negotiationKind(Provider)
+                .state(OFFERED)
+                .listener((state, negotiation) -> {
+                })
+                .build();
+    }
+
+    @Benchmark
+    @Group("uncontended")
+    @GroupThreads(1)
+    public void transitionUncontended() {
+        negotiation.transition(OFFERED);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(4)
+    public void transitionContended() {
+        negotiation.transition(OFFERED);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public ContractNegotiation.State readWhileTransitioning() {
+        return negotiation.getState();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void transitionWhileRead() {
+        negotiation.transition(OFFERED);
+    }
+}
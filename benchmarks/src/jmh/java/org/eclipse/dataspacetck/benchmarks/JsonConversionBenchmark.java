@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.toJsonObject;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.toMap;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.MAPPER;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
+
+/**
+ * Compares the single-pass conversions in {@code JsonValueFunctions} with the {@code ObjectMapper.convertValue} round
+ * trips they replace. Run with the {@code gc} profiler to compare the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonConversionBenchmark {
+    private Map<String, Object> message;
+    private JsonObject document;
+
+    @Setup
+    public void setUp() {
+        message = createAgreement("providerPid", "consumerPid", "agreement1", "provider", "consumer",
+                "dataset1", "https://consumer.test/callback");
+        document = toJsonObject(message);
+    }
+
+    @Benchmark
+    public JsonObject mapToJsonObject() {
+        return toJsonObject(message);
+    }
+
+    @Benchmark
+    public JsonObject mapToJsonObjectWithMapper() {
+        return MAPPER.convertValue(message, JsonObject.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonObjectToMap() {
+        return toMap(document);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> jsonObjectToMapWithMapper() {
+        return MAPPER.convertValue(document, Map.class);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.core.api.message.JsonValueFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.message.IriSymbols;
+import org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+
+/**
+ * Measures property extraction from an expanded message with {@link JsonLdFunctions}, property by property, against
+ * binding the message once as a {@link ProcessMessage}, with and without the property names interned by
+ * {@link IriSymbols}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonLdFunctionsBenchmark {
+    @Param({"false", "true"})
+    public boolean symbols;
+
+    private Map<String, Object> expanded;
+
+    @Setup
+    public void setUp() {
+        if (symbols) {
+            IriSymbols.install();
+        }
+        expanded = processJsonLd(createOffer("providerPid", "consumerPid", "offer1", "provider", "consumer", "dataset1"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        JsonValueFunctions.useSymbols(null);
+    }
+
+    @Benchmark
+    public String extractProviderPid() {
+        return stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, expanded);
+    }
+
+    @Benchmark
+    public String extractConsumerPid() {
+        return stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, expanded);
+    }
+
+    @Benchmark
+    public ProcessMessage bindProcessMessage() {
+        return ProcessMessage.from(expanded);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.core.api.message.MessageSerializer;
+import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Catalog;
+import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Dataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createCatalogResponse;
+
+/**
+ * Measures compaction of outbound messages and expansion of inbound messages by the {@link MessageSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSerializerBenchmark {
+    private static final int CATALOG_DATASETS = 20;
+
+    @Param({"offer", "agreement", "catalog"})
+    private String message;
+
+    private Map<String, Object> outbound;
+    private byte[] inbound;
+
+    @Setup
+    public void setUp() {
+        outbound = switch (message) {
+            case "offer" -> createOffer("providerPid", "consumerPid", "offer1", "provider", "consumer", "dataset1");
+            case "agreement" -> createAgreement("providerPid", "consumerPid", "agreement1", "provider", "consumer",
+                    "dataset1", "https://consumer.test/callback");
+            case "catalog" -> createCatalogResponse(createCatalog());
+            default -> throw new IllegalArgumentException("Unknown message: " + message);
+        };
+        inbound = serialize(outbound).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public String serializeMessage() {
+        return serialize(outbound);
+    }
+
+    @Benchmark
+    public Map<String, Object> processMessage() {
+        return processJsonLd(new ByteArrayInputStream(inbound));
+    }
+
+    private static Catalog createCatalog() {
+        var catalog = new Catalog("provider");
+        for (int i = 0; i < CATALOG_DATASETS; i++) {
+            var offer = new Dataset.Offer("offer" + i, List.of(new Dataset.Permission("use")));
+            var distribution = new Dataset.Distribution("HttpData-PULL",
+                    new Dataset.DataService("dataService" + i, "https://provider.test/data/" + i));
+            catalog.addDataset(new Dataset("dataset" + i, List.of(offer), List.of(distribution)));
+        }
+        return catalog;
+    }
+}
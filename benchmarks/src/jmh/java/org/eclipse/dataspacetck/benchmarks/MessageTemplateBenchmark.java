@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.benchmarks;
+
+import org.eclipse.dataspacetck.core.api.message.MessageTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeOffer;
+
+/**
+ * Compares serializing outbound messages by compacting their maps with filling a {@link MessageTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageTemplateBenchmark {
+    private static final String CALLBACK_ADDRESS = "https://consumer.test/callback";
+
+    @Benchmark
+    public String compactOffer() {
+        return serialize(createOffer("providerPid", "consumerPid", "offer1", "provider", "consumer", "dataset1"));
+    }
+
+    @Benchmark
+    public byte[] fillOffer() {
+        return serializeOffer("providerPid", "consumerPid", "offer1", "provider", "consumer", "dataset1");
+    }
+
+    @Benchmark
+    public String compactAgreement() {
+        return serialize(createAgreement("providerPid", "consumerPid", "agreement1", "provider", "consumer", "dataset1", CALLBACK_ADDRESS));
+    }
+
+    @Benchmark
+    public byte[] fillAgreement() {
+        return serializeAgreement("providerPid", "consumerPid", "agreement1", "provider", "consumer", "dataset1", CALLBACK_ADDRESS);
+    }
+}
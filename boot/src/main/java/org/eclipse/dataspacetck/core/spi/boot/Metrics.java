@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.core.spi.boot;
+
+/**
+ * Records counters, timers and value distributions. Implementations must be safe for concurrent use.
+ */
+public interface Metrics {
+
+    /**
+     * Discards all measurements.
+     */
+    Metrics NOOP = new Metrics() {
+        @Override
+        public void increment(String name, long amount) {
+        }
+
+        @Override
+        public void recordNanos(String name, long nanos) {
+        }
+
+        @Override
+        public void record(String name, long value) {
+        }
+    };
+
+    default void increment(String name) {
+        increment(name, 1);
+    }
+
+    /**
+     * Adds the amount to the counter.
+     */
+    void increment(String name, long amount);
+
+    /**
+     * Records a duration in nanoseconds in the timer.
+     */
+    void recordNanos(String name, long nanos);
+
+    /**
+     * Records the time elapsed since the start, obtained from {@link System#nanoTime()}, in the timer.
+     */
+    default void recordSince(String name, long startNanos) {
+        recordNanos(name, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a value in the histogram.
+     */
+    void record(String name, long value);
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A reusable, thread-safe JSON-LD processing context.
+ * <p>
+ * The context owns a single {@link JsonLdOptions} instance whose document loader resolves registered context documents
+ * from memory. Parsed contexts and loaded documents are cached across invocations so that repeated expansion and
+ * compaction of messages do not re-parse the DSP and ODRL contexts. Registering a document invalidates the caches.
+ */
+public class JsonLdProcessingContext {
+    private final Map<URI, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentCache<JsonValue> contextCache = new ConcurrentCache<>();
+    private final ConcurrentCache<Document> documentCache = new ConcurrentCache<>();
+    private final JsonLdOptions options;
+
+    public JsonLdProcessingContext() {
+        options = new JsonLdOptions((uri, loaderOptions) -> documents.get(uri));
+        options.setContextCache(contextCache);
+        options.setDocumentCache(documentCache);
+    }
+
+    /**
+     * Registers a context document resolvable by the given URI.
+     */
+    public void registerDocument(URI uri, Document document) {
+        documents.put(uri, document);
+        contextCache.clear();
+        documentCache.clear();
+    }
+
+    /**
+     * Expands the document.
+     */
+    public JsonArray expand(JsonObject document) throws JsonLdError {
+        return expand(JsonDocument.of(document));
+    }
+
+    /**
+     * Expands the document.
+     */
+    public JsonArray expand(JsonDocument document) throws JsonLdError {
+        return JsonLd.expand(document).options(options).get();
+    }
+
+    /**
+     * Compacts the document using the given context.
+     */
+    public JsonObject compact(JsonObject document, JsonDocument context) throws JsonLdError {
+        return JsonLd.compact(JsonDocument.of(document), context).options(options).get();
+    }
+
+    /**
+     * Returns the shared options. Callers must not modify the returned instance.
+     */
+    public JsonLdOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * A cache backed by a concurrent map. The set of contexts used by the TCK is small and fixed, so entries are not evicted.
+     */
+    private static class ConcurrentCache<V> implements Cache<String, V> {
+        private final Map<String, V> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean containsKey(String key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public V get(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void put(String key, V value) {
+            entries.put(key, value);
+        }
+
+        void clear() {
+            entries.clear();
+        }
+    }
+}
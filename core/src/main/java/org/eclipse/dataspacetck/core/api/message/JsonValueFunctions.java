@@ -0,0 +1,285 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static com.apicatalog.jsonld.lang.Keywords.ID;
+import static com.apicatalog.jsonld.lang.Keywords.TYPE;
+
+/**
+ * Converts between Jakarta JSON values, Jackson trees and plain Java collections in a single pass.
+ * <p>
+ * These functions replace round trips through {@code ObjectMapper.convertValue}, which serialize the source into a token
+ * buffer before building the target.
+ */
+public class JsonValueFunctions {
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private static volatile UnaryOperator<String> symbols = UnaryOperator.identity();
+
+    /**
+     * Installs the symbol table applied when JSON objects are converted to maps, or removes it if null. The table is
+     * applied to property names and to the string values of {@code @id} and {@code @type}, so that documents share one
+     * instance of each known IRI.
+     */
+    public static void useSymbols(@Nullable UnaryOperator<String> table) {
+        symbols = table == null ? UnaryOperator.identity() : table;
+    }
+
+    /**
+     * Reads a JSON object from the stream.
+     */
+    public static JsonObject readObject(InputStream stream) {
+        try (var reader = PROVIDER.createReader(stream)) {
+            return reader.readObject();
+        }
+    }
+
+    /**
+     * Writes the JSON structure as a compact string.
+     */
+    public static String write(JsonObject object) {
+        var writer = new StringWriter();
+        try (var jsonWriter = PROVIDER.createWriter(writer)) {
+            jsonWriter.writeObject(object);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Returns a generator writing UTF-8 to the stream. Closing the generator flushes the stream but does not close it.
+     */
+    public static JsonGenerator createGenerator(OutputStream stream) {
+        return PROVIDER.createGenerator(new UnclosedOutputStream(stream));
+    }
+
+    /**
+     * Writes plain Java values to the generator. Maps and collections are written entry by entry without building a
+     * Jakarta JSON tree.
+     */
+    public static void write(JsonGenerator generator, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            map.forEach((key, entry) -> {
+                generator.writeKey(key.toString());
+                write(generator, entry);
+            });
+            generator.writeEnd();
+        } else if (value instanceof Collection<?> collection) {
+            generator.writeStartArray();
+            collection.forEach(entry -> write(generator, entry));
+            generator.writeEnd();
+        } else {
+            generator.write(toJsonValue(value));
+        }
+    }
+
+    /**
+     * Converts a map of plain Java values to a Jakarta JSON object.
+     */
+    public static JsonObject toJsonObject(Map<?, ?> map) {
+        return toObjectBuilder(map).build();
+    }
+
+    /**
+     * Converts a Jakarta JSON value to plain Java values: objects become {@link Map}s, arrays become {@link List}s.
+     */
+    public static Object toJava(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> toMap(value.asJsonObject());
+            case ARRAY -> toList(value.asJsonArray());
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> toNumber((JsonNumber) value);
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
+
+    /**
+     * Converts a Jakarta JSON object to a map of plain Java values.
+     */
+    public static Map<String, Object> toMap(JsonObject object) {
+        var table = symbols;
+        var map = new LinkedHashMap<String, Object>(capacity(object.size()));
+        for (var entry : object.entrySet()) {
+            var key = table.apply(entry.getKey());
+            var value = ID.equals(key) || TYPE.equals(key) ? toSymbols(entry.getValue(), table) : toJava(entry.getValue());
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    /**
+     * Converts a Jakarta JSON value to a Jackson tree. This is a full copy of the value; it is used to pass messages to
+     * schema validators, which only accept Jackson trees.
+     */
+    public static JsonNode toJsonNode(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> {
+                ObjectNode node = NODE_FACTORY.objectNode();
+                value.asJsonObject().forEach((key, child) -> node.set(key, toJsonNode(child)));
+                yield node;
+            }
+            case ARRAY -> {
+                ArrayNode node = NODE_FACTORY.arrayNode(value.asJsonArray().size());
+                value.asJsonArray().forEach(child -> node.add(toJsonNode(child)));
+                yield node;
+            }
+            case STRING -> NODE_FACTORY.textNode(((JsonString) value).getString());
+            case NUMBER -> {
+                var number = toNumber((JsonNumber) value);
+                if (number instanceof Integer intValue) {
+                    yield NODE_FACTORY.numberNode(intValue);
+                } else if (number instanceof Long longValue) {
+                    yield NODE_FACTORY.numberNode(longValue);
+                } else if (number instanceof BigInteger bigInteger) {
+                    yield NODE_FACTORY.numberNode(bigInteger);
+                }
+                yield NODE_FACTORY.numberNode(number.doubleValue());
+            }
+            case TRUE -> NODE_FACTORY.booleanNode(true);
+            case FALSE -> NODE_FACTORY.booleanNode(false);
+            case NULL -> NODE_FACTORY.nullNode();
+        };
+    }
+
+    private static List<Object> toList(JsonArray array) {
+        var list = new ArrayList<>(array.size());
+        for (var element : array) {
+            list.add(toJava(element));
+        }
+        return list;
+    }
+
+    private static Object toSymbols(JsonValue value, UnaryOperator<String> table) {
+        if (value instanceof JsonString string) {
+            return table.apply(string.getString());
+        } else if (value instanceof JsonArray array) {
+            var list = new ArrayList<>(array.size());
+            for (var element : array) {
+                list.add(element instanceof JsonString string ? table.apply(string.getString()) : toJava(element));
+            }
+            return list;
+        }
+        return toJava(value);
+    }
+
+    private static Number toNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.doubleValue();
+        }
+        var value = number.bigIntegerValue();
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        }
+        return value;
+    }
+
+    private static JsonObjectBuilder toObjectBuilder(Map<?, ?> map) {
+        var builder = PROVIDER.createObjectBuilder();
+        map.forEach((key, value) -> builder.add(key.toString(), toJsonValue(value)));
+        return builder;
+    }
+
+    private static JsonArrayBuilder toArrayBuilder(Collection<?> collection) {
+        var builder = PROVIDER.createArrayBuilder();
+        collection.forEach(value -> builder.add(toJsonValue(value)));
+        return builder;
+    }
+
+    private static JsonValue toJsonValue(Object value) {
+        if (value == null) {
+            return JsonValue.NULL;
+        } else if (value instanceof JsonValue jsonValue) {
+            return jsonValue;
+        } else if (value instanceof String string) {
+            return PROVIDER.createValue(string);
+        } else if (value instanceof Map<?, ?> map) {
+            return toObjectBuilder(map).build();
+        } else if (value instanceof Collection<?> collection) {
+            return toArrayBuilder(collection).build();
+        } else if (value instanceof Boolean bool) {
+            return bool ? JsonValue.TRUE : JsonValue.FALSE;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return PROVIDER.createValue(((Number) value).intValue());
+        } else if (value instanceof Long longValue) {
+            return PROVIDER.createValue(longValue);
+        } else if (value instanceof BigInteger bigInteger) {
+            return PROVIDER.createValue(bigInteger);
+        } else if (value instanceof BigDecimal bigDecimal) {
+            return PROVIDER.createValue(bigDecimal);
+        } else if (value instanceof Number number) {
+            return PROVIDER.createValue(number.doubleValue());
+        }
+        // fall back to Jackson for types without a direct JSON mapping, e.g. enums or beans
+        return MessageSerializer.MAPPER.convertValue(value, JsonValue.class);
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private JsonValueFunctions() {
+    }
+
+    private static class UnclosedOutputStream extends FilterOutputStream {
+
+        UnclosedOutputStream(OutputStream stream) {
+            super(stream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -16,11 +16,8 @@
 package org.eclipse.dataspacetck.core.api.message;
 
 import com.apicatalog.jsonld.JsonLdError;
-import com.apicatalog.jsonld.JsonLdOptions;
-import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
@@ -32,7 +29,6 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -40,11 +36,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import static com.apicatalog.jsonld.JsonLd.compact;
-import static com.apicatalog.jsonld.JsonLd.expand;
 import static com.apicatalog.jsonld.lang.Keywords.CONTEXT;
 import static com.apicatalog.jsonld.lang.Keywords.TYPE;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.emptyList;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.readObject;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.toJsonNode;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.toJsonObject;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.toMap;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.write;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
 
 /**
  * Provides a configured {@link ObjectMapper} for serializing and deserializing JSON-LD messages.
@@ -56,10 +57,13 @@ public class MessageSerializer {
             .add(CONTEXT, Json.createArrayBuilder().add("https://w3id.org/dspace/2025/1/context.jsonld"))
             .build());
     public static final ObjectMapper MAPPER;
-    private static final Map<URI, Document> CONTEXTS;
+    private static final JsonLdProcessingContext PROCESSING_CONTEXT = new JsonLdProcessingContext();
     private static final Map<String, MessageValidator> VALIDATORS = new ConcurrentHashMap<>();
     private static final Pattern JSONLD_PREFIX_REGEX = Pattern.compile("dataspacetck\\.dsp\\.jsonld\\.context\\.(\\w*)");
     private static final String JSONLD_PREFIX = "dataspacetck.dsp.jsonld.context.";
+    private static final String SERIALIZE_METRIC = "serializer.serialize";
+    private static final String EXPAND_METRIC = "serializer.expand";
+    private static final String VALIDATE_METRIC = "serializer.validate";
 
     static {
         MAPPER = new ObjectMapper();
@@ -71,7 +75,6 @@ public class MessageSerializer {
             }
         };
         MAPPER.registerModule(module);
-        CONTEXTS = new HashMap<>();
         registerDocument(URI.create("https://w3id.org/dspace/2025/1/context.jsonld"), "dsp-2025-1.jsonld");
         registerDocument(URI.create("https://w3id.org/dspace/2025/1/odrl-profile.jsonld"), "dsp-2025-1-odrl-profile.jsonld");
         loadCustomContexts();
@@ -85,16 +88,14 @@ public class MessageSerializer {
     }
 
     public static String serialize(Object object) {
+        var start = nanoTime();
         try {
-            var options = new JsonLdOptions((uri, documentLoaderOptions) -> CONTEXTS.get(uri));
-            var compacted = compact(JsonDocument.of(MAPPER.convertValue(object, JsonObject.class)), COMPACT_CONTEXT)
-                    .options(options)
-                    .get();
+            var compacted = compact(object);
             validateMessage(compacted);
 
-            return MAPPER.writeValueAsString(compacted);
-        } catch (JsonProcessingException | JsonLdError e) {
-            throw new RuntimeException(e);
+            return write(compacted);
+        } finally {
+            metrics().recordSince(SERIALIZE_METRIC, start);
         }
     }
 
@@ -106,12 +107,12 @@ public class MessageSerializer {
         }
     }
 
+    /**
+     * Reads the stream once into a JSON-P tree, which is expanded directly. The schema validators operate on Jackson
+     * trees, so a Jackson copy of the document is built for validation when a validator is registered for its type.
+     */
     public static Map<String, Object> processJsonLd(InputStream stream) {
-        try {
-            return processJsonLd(MAPPER.readValue(stream, JsonObject.class));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return processJsonLd(readObject(stream));
     }
 
     @SuppressWarnings("unchecked")
@@ -124,38 +125,63 @@ public class MessageSerializer {
     }
 
     public static Map<String, Object> processJsonLd(Map<String, Object> message) {
-        return processJsonLd(MAPPER.convertValue(message, JsonObject.class));
+        return processJsonLd(toJsonObject(message));
     }
 
-    @SuppressWarnings("unchecked")
     private static Map<String, Object> processJsonLd(JsonObject document) {
         try {
 
             validateMessage(document);
 
-            var options = new JsonLdOptions((uri, documentLoaderOptions) -> CONTEXTS.get(uri));
-            var jsonArray = expand(JsonDocument.of(document)).options(options).get();
+            var start = nanoTime();
+            var jsonArray = PROCESSING_CONTEXT.expand(document);
+            metrics().recordSince(EXPAND_METRIC, start);
             if (jsonArray.isEmpty()) {
                 throw new AssertionError("Invalid Json document, expecting a non-empty array");
             }
-            var expanded = jsonArray.get(0);
-            return MAPPER.convertValue(expanded, Map.class);
+            return toMap(jsonArray.getJsonObject(0));
         } catch (JsonLdError e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static void validateMessage(JsonObject document) {
+    /**
+     * Compacts the message with the DSP context without validating it.
+     */
+    static JsonObject compact(Object object) {
+        try {
+            return PROCESSING_CONTEXT.compact(toDocument(object), COMPACT_CONTEXT);
+        } catch (JsonLdError e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static boolean hasValidator(String type) {
+        return VALIDATORS.containsKey(type);
+    }
+
+    static void validateMessage(JsonObject document) {
+        var start = nanoTime();
         var result = Optional.of(document.getString(TYPE))
                 .map(VALIDATORS::get)
-                .map(validator -> validator.validate(MAPPER.convertValue(document, JsonNode.class)))
+                .map(validator -> validator.validate(toJsonNode(document)))
                 .orElse(emptyList());
+        metrics().recordSince(VALIDATE_METRIC, start);
 
         if (!result.isEmpty()) {
             throw new AssertionError("Invalid message: " + result);
         }
     }
 
+    private static JsonObject toDocument(Object object) {
+        if (object instanceof JsonObject jsonObject) {
+            return jsonObject;
+        } else if (object instanceof Map<?, ?> map) {
+            return toJsonObject(map);
+        }
+        return MAPPER.convertValue(object, JsonObject.class);
+    }
+
     public static void registerDocument(URI uri, String resource) {
         var stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource);
         if (stream == null) {
@@ -166,7 +192,7 @@ public class MessageSerializer {
 
     public static void registerDocument(URI uri, InputStream stream) {
         try {
-            CONTEXTS.put(uri, JsonDocument.of(stream));
+            PROCESSING_CONTEXT.registerDocument(uri, JsonDocument.of(stream));
         } catch (JsonLdError e) {
             throw new RuntimeException(e);
         }
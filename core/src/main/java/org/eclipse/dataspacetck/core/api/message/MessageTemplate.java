@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.apicatalog.jsonld.lang.Keywords.TYPE;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.readObject;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.write;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+
+/**
+ * A message with a fixed shape that is compacted once and serialized by filling in its variable values.
+ * <p>
+ * The template is compiled from a message in which each variable value is a {@link #slot(String)} marker. The message
+ * is compacted as by {@link MessageSerializer#serialize(Object)} and the compacted JSON is split at the markers, so
+ * filling the template only copies the encoded fragments and the escaped values. Values are written as given and are not
+ * compacted; an IRI is therefore sent in the form it was passed in, which expands to the same document. Filled messages
+ * are validated if a validator is registered for their type.
+ */
+public class MessageTemplate {
+    private static final String SLOT_PREFIX = "urn:dataspacetck:slot:";
+    private static final Pattern SLOT_PATTERN = Pattern.compile("\"" + Pattern.quote(SLOT_PREFIX) + "([^\"]+)\"");
+    private static final String FILL_METRIC = "serializer.fill";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String type;
+    private final int arity;
+    private final byte[][] fragments;
+    private final int[] occurrences;
+    private final int fixedLength;
+
+    private MessageTemplate(String type, int arity, byte[][] fragments, int[] occurrences) {
+        this.type = type;
+        this.arity = arity;
+        this.fragments = fragments;
+        this.occurrences = occurrences;
+        this.fixedLength = Arrays.stream(fragments).mapToInt(fragment -> fragment.length).sum();
+    }
+
+    /**
+     * Returns the marker for the named slot.
+     */
+    public static String slot(String name) {
+        return SLOT_PREFIX + name;
+    }
+
+    /**
+     * Compiles the message. Every value that varies must be the marker of one of the named slots, and every named slot
+     * must occur in the message.
+     *
+     * @param message the message containing slot markers
+     * @param slots   the slot names in the order their values are passed to {@link #fill(String...)}
+     */
+    public static MessageTemplate compile(Map<String, Object> message, String... slots) {
+        var compacted = MessageSerializer.compact(message);
+        var json = write(compacted);
+        var names = List.of(slots);
+        var fragments = new ArrayList<byte[]>();
+        var occurrences = new ArrayList<Integer>();
+        var used = new boolean[slots.length];
+        var matcher = SLOT_PATTERN.matcher(json);
+        var position = 0;
+        while (matcher.find()) {
+            var index = names.indexOf(matcher.group(1));
+            if (index < 0) {
+                throw new IllegalArgumentException("Undeclared slot in message: " + matcher.group(1));
+            }
+            used[index] = true;
+            fragments.add(json.substring(position, matcher.start()).getBytes(UTF_8));
+            occurrences.add(index);
+            position = matcher.end();
+        }
+        fragments.add(json.substring(position).getBytes(UTF_8));
+        for (int i = 0; i < slots.length; i++) {
+            if (!used[i]) {
+                throw new IllegalArgumentException("Slot not found in message: " + slots[i]);
+            }
+        }
+        return new MessageTemplate(compacted.getString(TYPE),
+                slots.length,
+                fragments.toArray(byte[][]::new),
+                occurrences.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Returns the serialized message with the values filled into the slots.
+     *
+     * @param values the slot values in the order the slots were declared
+     */
+    public byte[] fill(String... values) {
+        if (values.length != arity) {
+            throw new IllegalArgumentException(String.format("Expected %d values but got %d", arity, values.length));
+        }
+        var start = nanoTime();
+        var encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = quote(requireNonNull(values[i], "Slot value must not be null")).getBytes(UTF_8);
+        }
+        var length = fixedLength;
+        for (var occurrence : occurrences) {
+            length += encoded[occurrence].length;
+        }
+        var result = new byte[length];
+        var offset = 0;
+        for (int i = 0; i < occurrences.length; i++) {
+            System.arraycopy(fragments[i], 0, result, offset, fragments[i].length);
+            offset += fragments[i].length;
+            var value = encoded[occurrences[i]];
+            System.arraycopy(value, 0, result, offset, value.length);
+            offset += value.length;
+        }
+        var last = fragments[fragments.length - 1];
+        System.arraycopy(last, 0, result, offset, last.length);
+        metrics().recordSince(FILL_METRIC, start);
+
+        if (MessageSerializer.hasValidator(type)) {
+            MessageSerializer.validateMessage(readObject(new ByteArrayInputStream(result)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value as a JSON string literal, escaped as by the JSON-P writer.
+     */
+    private static String quote(String value) {
+        var builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
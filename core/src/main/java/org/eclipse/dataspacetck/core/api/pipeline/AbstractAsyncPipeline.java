@@ -14,11 +14,11 @@
 
 package org.eclipse.dataspacetck.core.api.pipeline;
 
-import org.awaitility.core.ConditionTimeoutException;
 import org.eclipse.dataspacetck.core.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -26,16 +26,34 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.awaitility.Awaitility.await;
 
 /**
  * Base pipeline functionality.
  */
 public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implements AsyncPipeline<P> {
     protected static final CountDownLatch NO_WAIT_LATCH = new CountDownLatch(0);
+    private static final long MIN_POLL_INTERVAL_NANOS = MILLISECONDS.toNanos(5);
+    private static final long MAX_POLL_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+    /*
+     Delay before a {@link #thenWait} condition is first evaluated. The exchange that releases the wait, such as the
+     response to a request sent by the TCK, may still be processed by the system under test, which must not receive
+     the next message until it has recorded the result. The delay matches the initial poll delay waits used to have.
+     */
+    private static final long SETTLE_TIME_MILLIS = 100;
 
     protected CallbackEndpoint endpoint;
     protected Monitor monitor;
@@ -63,6 +81,15 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
      */
     protected Deque<CountDownLatch> expectLatches = new ArrayDeque<>();
 
+    /*
+     Wakes {@link #thenWait} conditions when something they may depend on changes. Subclasses call {@link #signal()}
+     from state listeners so waiting stages re-evaluate their condition immediately. Conditions without a signal source,
+     such as queries to the system under test, are re-evaluated at a backing-off poll interval.
+     */
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition signalled = signalLock.newCondition();
+    private long signals;
+
     public AbstractAsyncPipeline(CallbackEndpoint endpoint, Monitor monitor, long waitTime) {
         this.endpoint = endpoint;
         this.waitTime = waitTime;
@@ -81,10 +108,8 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
                     Thread.interrupted();
                     throw new RuntimeException("Interrupted while waiting for " + description, e);
                 }
-                await().atMost(waitTime, SECONDS).until(condition);
-                monitor.debug("Done waiting for " + description);
-            } catch (ConditionTimeoutException e) {
-                throw new AssertionError("Timeout waiting for " + description);
+                Thread.sleep(SETTLE_TIME_MILLIS);
+                awaitReady(description, condition);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -111,22 +136,104 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
                     action.accept((MessageSerializer.processJsonLd(agreement)));
                     endpoint.deregisterHandler(path);
                     latch.countDown();
+                    signal();
                     return null;
                 }));
         //noinspection unchecked
         return (P) this;
     }
 
-    protected void pause() {
-        pause(100);
+    /**
+     * Wakes stages waiting in {@link #thenWait} or {@link #awaitReady} so they re-evaluate their condition.
+     */
+    protected void signal() {
+        signalLock.lock();
+        try {
+            signals++;
+            signalled.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the condition is true, throwing an {@link AssertionError} if the wait time elapses.
+     */
+    protected void awaitReady(String description, Callable<Boolean> condition) {
+        if (!poll(description, condition)) {
+            throw new AssertionError("Timeout waiting for " + description);
+        }
+    }
+
+    /**
+     * Waits until the supplied value satisfies the predicate and returns it. If the wait time elapses, the last value
+     * is returned so the caller can report the mismatch.
+     */
+    protected <T> T awaitValue(String description, Supplier<T> supplier, Predicate<T> ready) {
+        var value = new AtomicReference<T>();
+        poll(description, () -> ready.test(value.updateAndGet(v -> supplier.get())));
+        return value.get();
     }
 
-    protected void pause(long millis) {
+    /**
+     * Evaluates the condition until it is true or the wait time elapses. The condition is re-evaluated when the
+     * pipeline is signalled and otherwise at a poll interval that starts small and backs off, so waits on the system
+     * under test resolve quickly without busy polling. The condition is evaluated without holding the signal lock since
+     * it may call the system under test.
+     */
+    private boolean poll(String description, Callable<Boolean> condition) {
+        var start = nanoTime();
+        var deadline = start + SECONDS.toNanos(waitTime);
+        var interval = MIN_POLL_INTERVAL_NANOS;
         try {
-            Thread.sleep(millis);
+            while (true) {
+                long observed;
+                signalLock.lock();
+                try {
+                    observed = signals;
+                } finally {
+                    signalLock.unlock();
+                }
+                if (Boolean.TRUE.equals(condition.call())) {
+                    monitor.debug(format("Done waiting for %s after %d ms", description, NANOSECONDS.toMillis(nanoTime() - start)));
+                    return true;
+                }
+                var remaining = deadline - nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                signalLock.lock();
+                try {
+                    if (signals == observed) {
+                        //noinspection ResultOfMethodCallIgnored
+                        signalled.awaitNanos(min(remaining, interval));
+                    }
+                } finally {
+                    signalLock.unlock();
+                }
+                interval = min(interval * 2, MAX_POLL_INTERVAL_NANOS);
+            }
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + description, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Waits until callbacks received by the endpoint have been acknowledged to the system under test, throwing an
+     * {@link AssertionError} if the wait time elapses. An acknowledged callback only means its response has been
+     * written; stages that depend on a state of the system under test should wait on that state instead.
+     */
+    protected void awaitAcknowledged() {
+        var start = nanoTime();
+        if (!endpoint.awaitAcknowledged(Duration.ofSeconds(waitTime))) {
+            throw new AssertionError("Timeout waiting for callbacks to be acknowledged");
+        }
+        monitor.debug(format("Callbacks acknowledged after %d ms", NANOSECONDS.toMillis(nanoTime() - start)));
+    }
+
 }
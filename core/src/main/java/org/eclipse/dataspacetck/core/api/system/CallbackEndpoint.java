@@ -15,6 +15,7 @@
 package org.eclipse.dataspacetck.core.api.system;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.function.Function;
 
 /**
@@ -42,4 +43,15 @@ public interface CallbackEndpoint {
      */
     void deregisterHandler(String path);
 
+    /**
+     * Waits until the callbacks received by this endpoint have been acknowledged, that is, their responses have been
+     * sent to the caller.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if all callbacks were acknowledged before the timeout elapsed
+     */
+    default boolean awaitAcknowledged(Duration timeout) {
+        return true;
+    }
+
 }
@@ -14,13 +14,39 @@
 
 package org.eclipse.dataspacetck.core.api.system;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Map;
 
 /**
  * A handler response.
  */
-public record HandlerResponse(int code, String result, Map<String, String> headers) {
-    public HandlerResponse(int code, String result) {
+public record HandlerResponse(int code, @Nullable ResponseBody body, Map<String, String> headers) {
+    public HandlerResponse(int code, @Nullable String result) {
         this(code, result, Map.of());
     }
+
+    public HandlerResponse(int code, @Nullable String result, Map<String, String> headers) {
+        this(code, result == null ? null : ResponseBody.of(result), headers);
+    }
+
+    public HandlerResponse(int code, @Nullable ResponseBody body) {
+        this(code, body, Map.of());
+    }
+
+    /**
+     * Returns a response whose body is produced by the writer when the response is sent. The body is sent with chunked
+     * transfer encoding, so it is never held in memory as a whole.
+     */
+    public static HandlerResponse streaming(int code, ResponseBody.BodyWriter writer) {
+        return new HandlerResponse(code, ResponseBody.streaming(writer));
+    }
+
+    /**
+     * Returns the body as a string or null if the response has no body.
+     */
+    @Nullable
+    public String result() {
+        return body == null ? null : body.asString();
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Metrics;
+
+/**
+ * Provides access to the {@link Metrics} of the running TCK. Measurements are discarded until metrics are installed.
+ */
+public class MetricsFunctions {
+    private static final String ID_SEGMENT = "{id}";
+
+    private static volatile Metrics metrics = Metrics.NOOP;
+
+    /**
+     * Returns the installed metrics.
+     */
+    public static Metrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Installs the metrics, or discards measurements if null.
+     */
+    public static void useMetrics(Metrics metrics) {
+        MetricsFunctions.metrics = metrics == null ? Metrics.NOOP : metrics;
+    }
+
+    /**
+     * Returns true if metrics are installed. Callers that build metric names per measurement check this first, so no
+     * names are built while measurements are discarded.
+     */
+    public static boolean metricsEnabled() {
+        return metrics != Metrics.NOOP;
+    }
+
+    /**
+     * Returns the name under which an instance of the metric is recorded, for example {@code http POST /negotiations/{id}}.
+     */
+    public static String metricName(String metric, String instance) {
+        return metric + ' ' + instance;
+    }
+
+    /**
+     * Returns the metric names of the transitions between the constants of the enum, indexed by the ordinals of the old
+     * and the new constant, so recording a transition does not build its name.
+     */
+    public static <E extends Enum<E>> String[][] transitionNames(String metric, Class<E> type) {
+        var constants = type.getEnumConstants();
+        var names = new String[constants.length][constants.length];
+        for (var from : constants) {
+            for (var to : constants) {
+                names[from.ordinal()][to.ordinal()] = metricName(metric, from + "->" + to);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the path with identifier segments replaced by {@code {id}}, so requests to the same endpoint are recorded
+     * under one name. Segments consisting of lowercase letters, dots and hyphens such as {@code negotiations} or
+     * {@code .well-known} are kept. A query string is removed.
+     */
+    public static String endpointName(String path) {
+        var query = path.indexOf('?');
+        var stripped = query < 0 ? path : path.substring(0, query);
+        var name = new StringBuilder(stripped.length());
+        for (var segment : stripped.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            name.append('/').append(isPathWord(segment) ? segment : ID_SEGMENT);
+        }
+        return name.isEmpty() ? "/" : name.toString();
+    }
+
+    private static boolean isPathWord(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            var c = segment.charAt(i);
+            if ((c < 'a' || c > 'z') && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private MetricsFunctions() {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.system;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The body of a {@link HandlerResponse}.
+ * <p>
+ * A body is either a pre-encoded buffer, which is sent with its content length, or a writer that streams the body and
+ * is sent with chunked transfer encoding.
+ */
+public sealed interface ResponseBody {
+
+    /**
+     * Returns a body containing the UTF-8 encoding of the string.
+     */
+    static ResponseBody of(String content) {
+        return new Encoded(ByteBuffer.wrap(content.getBytes(UTF_8)));
+    }
+
+    /**
+     * Returns a body containing the remaining bytes of the buffer. The buffer is not copied and must not be modified
+     * afterward.
+     */
+    static ResponseBody of(ByteBuffer content) {
+        return new Encoded(content);
+    }
+
+    /**
+     * Returns a body produced by the writer when the response is sent.
+     */
+    static ResponseBody streaming(BodyWriter writer) {
+        return new Streaming(writer);
+    }
+
+    /**
+     * Returns the body length in bytes or -1 if it is not known before the body is written.
+     */
+    long length();
+
+    /**
+     * Writes the body to the stream. The stream is not closed.
+     */
+    void writeTo(OutputStream stream) throws IOException;
+
+    /**
+     * Returns the body decoded as a UTF-8 string.
+     */
+    String asString();
+
+    /**
+     * Writes a response body.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+        void write(OutputStream stream) throws IOException;
+    }
+
+    /**
+     * A pre-encoded body.
+     */
+    record Encoded(ByteBuffer content) implements ResponseBody {
+        public Encoded {
+            requireNonNull(content);
+        }
+
+        @Override
+        public long length() {
+            return content.remaining();
+        }
+
+        @Override
+        public void writeTo(OutputStream stream) throws IOException {
+            if (content.hasArray()) {
+                stream.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            } else {
+                Channels.newChannel(stream).write(content.duplicate());
+            }
+        }
+
+        @Override
+        public String asString() {
+            return UTF_8.decode(content.duplicate()).toString();
+        }
+    }
+
+    /**
+     * A body written when the response is sent.
+     */
+    record Streaming(BodyWriter writer) implements ResponseBody {
+        public Streaming {
+            requireNonNull(writer);
+        }
+
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(OutputStream stream) throws IOException {
+            writer.write(stream);
+        }
+
+        @Override
+        public String asString() {
+            var stream = new ByteArrayOutputStream();
+            try {
+                writer.write(stream);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return stream.toString(UTF_8);
+        }
+    }
+}
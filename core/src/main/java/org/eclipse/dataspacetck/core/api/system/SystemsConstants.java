@@ -26,4 +26,9 @@ public interface SystemsConstants {
     String TCK_DEFAULT_HOST = "0.0.0.0";
     int TCK_DEFAULT_PORT = 8083;
     String TCK_LAUNCHER = TCK_PREFIX + ".launcher";
+    String TCK_CALLBACK_EXECUTOR = TCK_PREFIX + ".callback.executor";
+    String TCK_CALLBACK_THREADS = TCK_PREFIX + ".callback.threads";
+    String TCK_CALLBACK_SCOPED = TCK_PREFIX + ".callback.scoped";
+    String TCK_DEFAULT_CALLBACK_EXECUTOR = "fixed";
+    int TCK_DEFAULT_CALLBACK_THREADS = 4;
 }
@@ -15,18 +15,12 @@
 
 package org.eclipse.dataspacetck.core.api.verification;
 
-import com.networknt.schema.Error;
-import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.dialect.Dialects;
 import org.eclipse.dataspacetck.core.api.message.MessageValidator;
 import org.eclipse.dataspacetck.core.system.SystemBootstrapExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
-
 /**
  * Base class for verification tests. Uses the system bootstrap extension.
  */
@@ -41,16 +35,19 @@ public abstract class AbstractVerificationTest {
                     schemaIdResolvers.mapPrefix(DSPACE_NAMESPACE + "/", CLASSPATH_SCHEMA))
     );
 
+    private static final SchemaValidatorRegistry VALIDATOR_REGISTRY = new SchemaValidatorRegistry(SCHEMA_FACTORY);
 
+    /**
+     * Returns a validator for the schema. The schema is compiled once and shared by all tests.
+     */
     protected static MessageValidator forSchema(String schema) {
-        return (input) -> {
-            var schemaValidator = SCHEMA_FACTORY.getSchema(SchemaLocation.of(DSPACE_NAMESPACE + schema));
-
-            var response = schemaValidator.validate(input);
-            if (response.isEmpty()) {
-                return List.of();
-            }
-            return response.stream().map(Error::getMessage).collect(Collectors.toList());
-        };
+        return VALIDATOR_REGISTRY.register(DSPACE_NAMESPACE + schema);
+    }
+
+    /**
+     * Returns the registry holding the compiled schemas.
+     */
+    public static SchemaValidatorRegistry getValidatorRegistry() {
+        return VALIDATOR_REGISTRY;
     }
 }
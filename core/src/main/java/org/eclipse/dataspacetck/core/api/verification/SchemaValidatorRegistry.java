@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.verification;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import org.eclipse.dataspacetck.core.api.message.MessageValidator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compiles JSON schemas once and hands out validators bound to the compiled form.
+ * <p>
+ * Schemas are compiled, including their {@code $ref} graph, when first registered. Subsequent registrations of the same
+ * location reuse the compiled schema, so validating a message only walks the document. This implementation is thread-safe.
+ */
+public class SchemaValidatorRegistry {
+    private final SchemaRegistry schemaRegistry;
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
+
+    public SchemaValidatorRegistry(SchemaRegistry schemaRegistry) {
+        this.schemaRegistry = requireNonNull(schemaRegistry);
+    }
+
+    /**
+     * Returns a validator for the schema location, compiling the schema if it has not been registered before.
+     */
+    public MessageValidator register(String location) {
+        var schema = getSchema(location);
+        return input -> {
+            var response = schema.validate(input);
+            if (response.isEmpty()) {
+                return List.of();
+            }
+            return response.stream().map(Error::getMessage).toList();
+        };
+    }
+
+    /**
+     * Returns the compiled schema for the location.
+     */
+    public Schema getSchema(String location) {
+        var schema = schemas.get(location);
+        if (schema != null) {
+            hits.increment();
+            return schema;
+        }
+        return schemas.computeIfAbsent(location, this::compile);
+    }
+
+    /**
+     * Returns a snapshot of the registry counters.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(schemas.size(), hits.sum(), misses.sum(), compileNanos.sum());
+    }
+
+    private Schema compile(String location) {
+        misses.increment();
+        var start = System.nanoTime();
+        try {
+            var schema = schemaRegistry.getSchema(SchemaLocation.of(location));
+            schema.initializeValidators();
+            return schema;
+        } finally {
+            compileNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Registry counters.
+     *
+     * @param schemas      the number of compiled schemas
+     * @param hits         the number of lookups served from the compiled cache
+     * @param misses       the number of lookups that compiled a schema
+     * @param compileNanos the total time spent compiling schemas, in nanoseconds
+     */
+    public record Statistics(int schemas, long hits, long misses, long compileNanos) {
+    }
+}
@@ -33,6 +33,14 @@ public interface SystemLauncher {
     default void close() {
     }
 
+    /**
+     * Signals that the test scope has completed and resources held for it may be freed.
+     *
+     * @param scopeId the scope id passed to services created for the scope
+     */
+    default void closeScope(String scopeId) {
+    }
+
     /**
      * Returns true if the launcher can provide a service of the given type.
      */
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.core.system.DefaultCallbackEndpoint.stripTrailingSlash;
+
+/**
+ * Indexes callback endpoints by the path expressions of their handlers.
+ * <p>
+ * The index is updated as endpoints are attached and closed and as handlers are registered and removed, so a request
+ * resolves its endpoints without scanning all endpoints. Several endpoints may register the same path expression; they
+ * are returned in attachment order.
+ */
+class CallbackEndpointIndex implements DefaultCallbackEndpoint.LifecycleListener {
+    private final RouteTable<List<DefaultCallbackEndpoint>> routes = new RouteTable<>();
+    private final Map<String, List<DefaultCallbackEndpoint>> owners = new HashMap<>();
+
+    /**
+     * Indexes the handlers already registered with the endpoint. Handlers registered later are indexed when the index
+     * is notified as a listener of the endpoint.
+     */
+    synchronized void registerEndpoint(DefaultCallbackEndpoint endpoint) {
+        endpoint.getHandlerPaths().forEach(path -> addRoute(endpoint, path));
+    }
+
+    synchronized void deregisterEndpoint(DefaultCallbackEndpoint endpoint) {
+        endpoint.getHandlerPaths().forEach(path -> removeRoute(endpoint, path));
+    }
+
+    /**
+     * Returns the endpoints owning a handler whose path expression matches the path, or an empty list.
+     */
+    List<DefaultCallbackEndpoint> lookup(String path) {
+        var endpoints = routes.lookup(stripTrailingSlash(path));
+        return endpoints != null ? endpoints : List.of();
+    }
+
+    @Override
+    public void onClose(DefaultCallbackEndpoint endpoint) {
+        deregisterEndpoint(endpoint);
+    }
+
+    @Override
+    public synchronized void onHandlerRegistered(DefaultCallbackEndpoint endpoint, String path) {
+        addRoute(endpoint, path);
+    }
+
+    @Override
+    public synchronized void onHandlerDeregistered(DefaultCallbackEndpoint endpoint, String path) {
+        removeRoute(endpoint, path);
+    }
+
+    private void addRoute(DefaultCallbackEndpoint endpoint, String path) {
+        var endpoints = owners.computeIfAbsent(path, k -> new ArrayList<>());
+        if (!endpoints.contains(endpoint)) {
+            endpoints.add(endpoint);
+            routes.register(path, List.copyOf(endpoints));
+        }
+    }
+
+    private void removeRoute(DefaultCallbackEndpoint endpoint, String path) {
+        var endpoints = owners.get(path);
+        if (endpoints == null || !endpoints.remove(endpoint)) {
+            return;
+        }
+        if (endpoints.isEmpty()) {
+            owners.remove(path);
+            routes.deregister(path);
+        } else {
+            routes.register(path, List.copyOf(endpoints));
+        }
+    }
+}
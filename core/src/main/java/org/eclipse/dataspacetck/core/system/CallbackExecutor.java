@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_THREADS;
+
+/**
+ * Executes callback requests received by the TCK HTTP server and records queue depth and handler time. The
+ * measurements are also published through the installed metrics while tests run.
+ */
+public class CallbackExecutor implements Executor, AutoCloseable {
+    private static final String QUEUE_DEPTH_METRIC = "callback.executor.queue";
+    private static final String WAIT_METRIC = "callback.executor.wait";
+    private static final String HANDLER_METRIC = "callback.executor.handler";
+
+    private final ExecutorService delegate;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+    private final AtomicLong maxHandlerNanos = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder handlerNanos = new LongAdder();
+
+    /**
+     * Creates an executor for the given mode.
+     *
+     * @param mode    the execution mode
+     * @param threads the number of threads for {@link Mode#FIXED} or the parallelism for {@link Mode#WORK_STEALING}
+     * @param monitor the monitor
+     */
+    public static CallbackExecutor create(Mode mode, int threads, Monitor monitor) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(format("Invalid callback thread count %s. Must be greater than zero.", threads));
+        }
+        return switch (mode) {
+            case FIXED -> new CallbackExecutor(Executors.newFixedThreadPool(threads));
+            case WORK_STEALING -> new CallbackExecutor(Executors.newWorkStealingPool(threads));
+            case VIRTUAL -> new CallbackExecutor(newVirtualThreadExecutor(threads, monitor));
+        };
+    }
+
+    /**
+     * Parses the number of callback threads from its configuration value.
+     *
+     * @throws IllegalArgumentException if the value is not a number greater than zero
+     */
+    public static int parseThreads(String value) {
+        try {
+            var threads = Integer.parseInt(value.trim());
+            if (threads > 0) {
+                return threads;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(format("Invalid value '%s' for property %s. Must be a number greater than zero.", value, TCK_CALLBACK_THREADS));
+    }
+
+    CallbackExecutor(ExecutorService delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        var depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        metrics().record(QUEUE_DEPTH_METRIC, depth);
+        var submitted = System.nanoTime();
+        delegate.execute(() -> {
+            queueDepth.decrementAndGet();
+            var start = System.nanoTime();
+            metrics().recordNanos(WAIT_METRIC, start - submitted);
+            try {
+                command.run();
+            } finally {
+                var elapsed = System.nanoTime() - start;
+                handlerNanos.add(elapsed);
+                maxHandlerNanos.accumulateAndGet(elapsed, Math::max);
+                metrics().recordNanos(HANDLER_METRIC, elapsed);
+                completed.increment();
+            }
+        });
+    }
+
+    /**
+     * Returns a snapshot of the executor counters.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(queueDepth.get(), maxQueueDepth.get(), completed.sum(), handlerNanos.sum(), maxHandlerNanos.get());
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+
+    /**
+     * Uses virtual threads when running on Java 21 or later.
+     */
+    private static ExecutorService newVirtualThreadExecutor(int threads, Monitor monitor) {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            monitor.message("Virtual threads are not supported by this JVM, using a work-stealing executor for callbacks");
+            return Executors.newWorkStealingPool(threads);
+        }
+    }
+
+    /**
+     * The callback execution modes.
+     */
+    public enum Mode {
+        /**
+         * A fixed-size thread pool.
+         */
+        FIXED,
+        /**
+         * A work-stealing fork-join pool.
+         */
+        WORK_STEALING,
+        /**
+         * A new virtual thread per request.
+         */
+        VIRTUAL;
+
+        /**
+         * Parses the mode from its configuration value, e.g. {@code work-stealing}.
+         */
+        public static Mode parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(format("Invalid callback executor mode '%s'. Must be one of fixed, work-stealing or virtual.", value), e);
+            }
+        }
+    }
+
+    /**
+     * Executor counters.
+     *
+     * @param queueDepth      the number of requests waiting for a thread
+     * @param maxQueueDepth   the highest number of requests that waited for a thread
+     * @param completed       the number of handled requests
+     * @param handlerNanos    the total time spent handling requests, in nanoseconds
+     * @param maxHandlerNanos the longest time spent handling a request, in nanoseconds
+     */
+    public record Statistics(long queueDepth, long maxQueueDepth, long completed, long handlerNanos, long maxHandlerNanos) {
+
+        /**
+         * Returns the mean handler time in milliseconds.
+         */
+        public double meanHandlerMillis() {
+            return completed == 0 ? 0 : handlerNanos / (completed * 1_000_000d);
+        }
+    }
+}
@@ -21,35 +21,50 @@ import org.eclipse.dataspacetck.core.api.system.ProtocolHandler;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static java.lang.System.nanoTime;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
-import static java.util.regex.Pattern.compile;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.endpointName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricsEnabled;
 
 /**
  * Implements a callback endpoint.
  * <p>
  * Deserialized messages from incoming transports such as HTTP are dispatched to a registered handler through this endpoint by calling {@link #apply(String, InputStream)}.
+ * <p>
+ * An endpoint may be confined to a scope path. Its address and handler paths are then prefixed with the scope path, so
+ * endpoints of concurrently executing tests receive only the callbacks addressed to them. Handlers are registered and
+ * invoked with paths relative to the scope.
  */
 public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<String, InputStream, String>, AutoCloseable {
+    private static final String DISPATCH_METRIC = "callback";
 
     private final List<LifecycleListener> listeners = new ArrayList<>();
-    private final Map<String, ProtocolHandler> handlers = new HashMap<>();
+    private final RouteTable<ProtocolHandler> handlers = new RouteTable<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition acknowledged = pendingLock.newCondition();
+    private int pending;
     private String address;
+    private String scopePath = "";
 
     private DefaultCallbackEndpoint() {
     }
 
     @Override
     public String getAddress() {
-        return address;
+        return address + scopePath;
     }
 
     public boolean handlesPath(String path) {
@@ -60,22 +75,48 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
     public String apply(String path, InputStream message) {
         var stripped = stripTrailingSlash(path);
         //noinspection OptionalGetWithoutIsPresent
-        return lookupHandler(stripped).get().apply(stripped, emptyMap(), message).result();
+        return lookupHandler(stripped).get().apply(unscoped(stripped), emptyMap(), message).result();
     }
 
     public HandlerResponse apply(String path, Map<String, List<String>> headers, InputStream message) {
         var stripped = stripTrailingSlash(path);
         //noinspection OptionalGetWithoutIsPresent
-        return lookupHandler(stripped).get().apply(stripped, headers, message);
+        return lookupHandler(stripped).get().apply(unscoped(stripped), headers, message);
+    }
+
+    /**
+     * Dispatches the message to the handler registered for the path, resolving the handler once. Returns empty if no handler matches.
+     * The time spent in the handler is recorded per endpoint while metrics are installed.
+     */
+    public Optional<HandlerResponse> dispatch(String path, Map<String, List<String>> headers, InputStream message) {
+        var stripped = stripTrailingSlash(path);
+        return lookupHandler(stripped).map(handler -> {
+            var unscoped = unscoped(stripped);
+            if (!metricsEnabled()) {
+                return handler.apply(unscoped, headers, message);
+            }
+            var start = nanoTime();
+            try {
+                return handler.apply(unscoped, headers, message);
+            } finally {
+                metrics().recordSince(metricName(DISPATCH_METRIC, endpointName(unscoped)), start);
+            }
+        });
+    }
+
+    /**
+     * Removes the scope path from a path resolved to one of the handlers of this endpoint. Handlers receive paths
+     * relative to the scope.
+     */
+    private String unscoped(String path) {
+        return path.substring(scopePath.length());
     }
 
     @Override
     public void registerProtocolHandler(String path, ProtocolHandler handler) {
-        if (!path.startsWith("/")) {
-            path = "/" + path;
-        }
-        path = stripTrailingSlash(path);
-        handlers.put(path, handler);
+        var normalized = scopePath + normalize(path);
+        handlers.register(normalized, handler);
+        listeners.forEach(l -> l.onHandlerRegistered(this, normalized));
     }
 
     @Override
@@ -85,7 +126,65 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
 
     @Override
     public void deregisterHandler(String path) {
-        handlers.remove(path);
+        var normalized = scopePath + normalize(path);
+        if (handlers.deregister(normalized) != null) {
+            listeners.forEach(l -> l.onHandlerDeregistered(this, normalized));
+        }
+    }
+
+    @Override
+    public boolean awaitAcknowledged(Duration timeout) {
+        var remaining = timeout.toNanos();
+        pendingLock.lock();
+        try {
+            while (pending > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = acknowledged.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Records that a callback is being handled. Transports must call {@link #callbackAcknowledged()} once the response
+     * has been sent.
+     */
+    public void callbackReceived() {
+        pendingLock.lock();
+        try {
+            pending++;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Records that the response to a callback has been sent.
+     */
+    public void callbackAcknowledged() {
+        pendingLock.lock();
+        try {
+            pending--;
+            if (pending == 0) {
+                acknowledged.signalAll();
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the normalized path expressions of the registered handlers, including the scope path.
+     */
+    public List<String> getHandlerPaths() {
+        return handlers.expressions();
     }
 
     @Override
@@ -93,25 +192,41 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
         listeners.forEach(l -> l.onClose(this));
     }
 
+    /**
+     * Normalizes a path or path expression by adding a leading slash and removing a trailing slash.
+     */
     @NotNull
-    private String stripTrailingSlash(String path) {
+    static String normalize(String path) {
+        return stripTrailingSlash(path.startsWith("/") ? path : "/" + path);
+    }
+
+    @NotNull
+    static String stripTrailingSlash(String path) {
         return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
     }
 
     /**
-     * Matches the path based on the regular expression.
+     * Matches the path against the registered regular expressions.
      */
-    private Optional<ProtocolHandler> lookupHandler(String expression) {
-        return handlers.entrySet()
-                       .stream()
-                       .filter(entry -> compile(entry.getKey()).matcher(expression).matches())
-                       .map(Map.Entry::getValue)
-                       .findFirst();
+    private Optional<ProtocolHandler> lookupHandler(String path) {
+        return Optional.ofNullable(handlers.lookup(path));
     }
 
     @FunctionalInterface
     public interface LifecycleListener {
         void onClose(DefaultCallbackEndpoint endpoint);
+
+        /**
+         * Invoked after a handler is registered for the normalized path expression.
+         */
+        default void onHandlerRegistered(DefaultCallbackEndpoint endpoint, String path) {
+        }
+
+        /**
+         * Invoked after the handler for the normalized path expression is removed.
+         */
+        default void onHandlerDeregistered(DefaultCallbackEndpoint endpoint, String path) {
+        }
     }
 
     public static class Builder {
@@ -130,6 +245,15 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
             return this;
         }
 
+        /**
+         * Confines the endpoint to the scope path, for example {@code /scopes/1}. The path must not contain regular
+         * expression syntax.
+         */
+        public Builder scopePath(String scopePath) {
+            endpoint.scopePath = normalize(scopePath);
+            return this;
+        }
+
         public Builder listener(LifecycleListener listener) {
             endpoint.listeners.add(listener);
             return this;
@@ -137,6 +261,7 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
 
         public DefaultCallbackEndpoint build() {
             requireNonNull(endpoint.address);
+            endpoint.address = stripTrailingSlash(endpoint.address);
             return endpoint;
         }
     }
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps counters in memory and timers and histograms as {@link LatencyHistogram}s.
+ */
+public class DefaultMetrics implements Metrics {
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String name, long amount) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(amount);
+    }
+
+    @Override
+    public void recordNanos(String name, long nanos) {
+        timers.computeIfAbsent(name, k -> new LatencyHistogram()).record(nanos);
+    }
+
+    @Override
+    public void record(String name, long value) {
+        histograms.computeIfAbsent(name, k -> new LatencyHistogram()).record(value);
+    }
+
+    /**
+     * Returns the counter values ordered by name.
+     */
+    public SortedMap<String, Long> getCounters() {
+        var result = new TreeMap<String, Long>();
+        counters.forEach((name, counter) -> result.put(name, counter.sum()));
+        return result;
+    }
+
+    /**
+     * Returns the timer distributions in nanoseconds ordered by name.
+     */
+    public SortedMap<String, LatencyHistogram.Snapshot> getTimers() {
+        return snapshot(timers);
+    }
+
+    /**
+     * Returns the histogram distributions ordered by name.
+     */
+    public SortedMap<String, LatencyHistogram.Snapshot> getHistograms() {
+        return snapshot(histograms);
+    }
+
+    private static SortedMap<String, LatencyHistogram.Snapshot> snapshot(Map<String, LatencyHistogram> histograms) {
+        var result = new TreeMap<String, LatencyHistogram.Snapshot>();
+        histograms.forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+        return result;
+    }
+}
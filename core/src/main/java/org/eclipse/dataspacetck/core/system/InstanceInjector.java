@@ -20,20 +20,38 @@ import org.eclipse.dataspacetck.core.api.system.Inject;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import static java.lang.String.format;
-import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.dataspacetck.core.system.ConfigFunctions.propertyOrEnv;
 
 /**
  * Injects fields on an instance annotated with {@link Inject} in a type hierarchy.
+ * <p>
+ * The annotated fields of a class are resolved once into an injection plan of setter handles, which is cached for the
+ * class and reused for every test instance.
  */
 public class InstanceInjector {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ClassValue<List<InjectionPoint>> PLANS = new ClassValue<>() {
+        @Override
+        protected List<InjectionPoint> computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
     private ServiceResolver resolver;
     private ExtensionContext extensionContext;
     private Monitor monitor;
@@ -45,82 +63,118 @@ public class InstanceInjector {
     }
 
     public void inject(Object instance) {
-        visitSuperClasses(instance.getClass(), instance);
-        visitFields(instance.getClass(), instance);
-    }
-
-    private void visit(Class<?> clazz, Object instance) {
-        visitSuperClasses(clazz, instance);
-        visitFields(clazz, instance);
-    }
-
-    private void visitSuperClasses(Class<?> clazz, Object instance) {
-        var superClass = clazz.getSuperclass();
-        if (superClass != null && !superClass.equals(Object.class)) {
-            visit(superClass, instance);
+        var plan = PLANS.get(instance.getClass());
+        if (plan.isEmpty()) {
+            return;
         }
-    }
-
-    private void visitFields(Class<?> clazz, Object instance) {
-        for (var field : clazz.getDeclaredFields()) {
-            if (!visitInjectField(field, instance)) {
-                visitConfigField(field, instance);
+        Set<String> tags = null;
+        String id = null;
+        String keyPrefix = null;
+        for (var point : plan) {
+            if (point.config() == null) {
+                if (id == null) {
+                    tags = extensionContext.getTags();
+                    id = SystemBootstrapExtension.scopeId(extensionContext);
+                }
+                injectService(point, instance, tags, id);
+            } else {
+                if (keyPrefix == null) {
+                    keyPrefix = extensionContext.getRequiredTestMethod().getName().toUpperCase() + "_";
+                }
+                injectConfig(point, instance, keyPrefix + point.keyPostfix());
             }
         }
     }
 
-    private void visitConfigField(Field field, Object instance) {
-        var annotations = field.getDeclaredAnnotations();
-        var annotation = stream(annotations).filter(a -> a.annotationType().equals(ConfigParam.class)).findFirst();
-        if (annotation.isEmpty()) {
-            return;
-        }
-        String key = getKey(field);
+    private void injectConfig(InjectionPoint point, Object instance, String key) {
         var value = extensionContext.getConfigurationParameter(key).orElse(propertyOrEnv(key, null));
         if (value == null) {
-            if (((ConfigParam) annotation.get()).required()) {
-                var className = field.getDeclaringClass().getName();
-                var fieldName = field.getName();
+            if (point.config().required()) {
+                var className = point.field().getDeclaringClass().getName();
+                var fieldName = point.field().getName();
                 throw new RuntimeException(format("Required configuration '%s' not found [%s.%s]. Please set the environment variable.", key, className, fieldName));
             }
             return;
         }
-        try {
-            field.setAccessible(true);
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(format("Error setting field configuration value '%s': %s", field.getName(), field.getType()), e);
-        }
+        set(point, instance, value, "Error setting field configuration value '%s': %s");
     }
 
-    private boolean visitInjectField(Field field, Object instance) {
-        var annotations = field.getDeclaredAnnotations();
-        if (stream(annotations).noneMatch(a -> a.annotationType().equals(Inject.class))) {
-            return false;
-        }
-        var tags = extensionContext.getTags();
-        var id = extensionContext.getUniqueId();
+    private void injectService(InjectionPoint point, Object instance, Set<String> tags, String id) {
         var configuration = ServiceConfiguration.Builder.newInstance()
                 .tags(tags)
                 .scopeId(id)
-                .annotations(annotations)
+                .annotations(point.annotations())
                 .monitor(monitor)
                 .propertyDelegate(k -> extensionContext.getConfigurationParameter(k).orElse(propertyOrEnv(k, null)))
                 .build();
+        set(point, instance, resolver.resolve(point.field().getType(), configuration), "Error injecting field %s with: %s");
+    }
+
+    private static void set(InjectionPoint point, Object instance, Object value, String message) {
+        try {
+            point.setter().invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(format(message, point.field().getName(), point.field().getType()), e);
+        }
+    }
+
+    /**
+     * Returns the injection points of the type hierarchy, superclass fields first.
+     */
+    private static List<InjectionPoint> plan(Class<?> type) {
+        var superClass = type.getSuperclass();
+        var points = new ArrayList<InjectionPoint>();
+        if (superClass != null && !superClass.equals(Object.class)) {
+            points.addAll(PLANS.get(superClass));
+        }
+        for (var field : type.getDeclaredFields()) {
+            var point = injectionPoint(field);
+            if (point != null) {
+                points.add(point);
+            }
+        }
+        return List.copyOf(points);
+    }
 
+    @Nullable
+    private static InjectionPoint injectionPoint(Field field) {
+        var annotations = field.getDeclaredAnnotations();
+        ConfigParam config = null;
+        for (var annotation : annotations) {
+            if (annotation.annotationType().equals(Inject.class)) {
+                return new InjectionPoint(field, setter(field), annotations, null, null);
+            } else if (config == null && annotation instanceof ConfigParam configParam) {
+                config = configParam;
+            }
+        }
+        if (config == null) {
+            return null;
+        }
+        return new InjectionPoint(field, setter(field), annotations, config, field.getName().toUpperCase());
+    }
+
+    private static MethodHandle setter(Field field) {
         try {
             field.setAccessible(true);
-            field.set(instance, resolver.resolve(field.getType(), configuration));
-            return true;
+            var setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
         } catch (IllegalAccessException e) {
-            throw new RuntimeException(format("Error injecting field %s with: %s", field.getName(), field.getType()), e);
+            throw new RuntimeException(format("Error accessing field %s: %s", field.getName(), field.getType()), e);
         }
     }
 
-    @NotNull
-    private String getKey(Field field) {
-        var keyPrefix = extensionContext.getRequiredTestMethod().getName().toUpperCase();
-        var keyPostfix = field.getName().toUpperCase();
-        return keyPrefix + "_" + keyPostfix;
+    /**
+     * A field to inject. Service fields have no {@link ConfigParam}; configuration fields carry the field part of their key.
+     */
+    private record InjectionPoint(Field field,
+                                  MethodHandle setter,
+                                  Annotation[] annotations,
+                                  @Nullable ConfigParam config,
+                                  @Nullable String keyPostfix) {
     }
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values with a bounded relative error.
+ * <p>
+ * Values are counted in log-linear buckets: each power of two is divided into {@value #SUB_BUCKETS} equal buckets, so a
+ * recorded value is reported with a relative error below 1/{@value #SUB_BUCKETS}. The bucket array is fixed in size and
+ * covers the full {@code long} range, so recording never allocates and never blocks.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the value. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        var recorded = Math.max(0, value);
+        counts.incrementAndGet(bucket(recorded));
+        count.increment();
+        sum.add(recorded);
+        min.accumulateAndGet(recorded, Math::min);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Returns the recorded distribution. Values recorded concurrently may be partially reflected.
+     */
+    public Snapshot snapshot() {
+        var total = count.sum();
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+        var bucketCounts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketCounts[i] = counts.get(i);
+        }
+        var maxValue = max.get();
+        return new Snapshot(total,
+                min.get(),
+                maxValue,
+                (double) sum.sum() / total,
+                percentile(bucketCounts, 0.5, maxValue),
+                percentile(bucketCounts, 0.9, maxValue),
+                percentile(bucketCounts, 0.99, maxValue));
+    }
+
+    /**
+     * Returns the highest value of the bucket containing the percentile, capped at the recorded maximum.
+     */
+    private static long percentile(long[] bucketCounts, double percentile, long maxValue) {
+        var total = 0L;
+        for (var bucketCount : bucketCounts) {
+            total += bucketCount;
+        }
+        var rank = Math.max(1, (long) Math.ceil(percentile * total));
+        var seen = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucket(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        var shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BUCKET_BITS;
+        return (int) (shift * SUB_BUCKETS + (value >>> shift));
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        var shift = bucket / SUB_BUCKETS - 1;
+        var subBucket = (long) bucket - (long) shift * SUB_BUCKETS;
+        var next = (subBucket + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+
+    /**
+     * The recorded distribution.
+     *
+     * @param count the number of recorded values
+     * @param min   the lowest recorded value
+     * @param max   the highest recorded value
+     * @param mean  the mean of the recorded values
+     * @param p50   the median
+     * @param p90   the 90th percentile
+     * @param p99   the 99th percentile
+     */
+    public record Snapshot(long count, long min, long max, double mean, long p50, long p90, long p99) {
+    }
+}
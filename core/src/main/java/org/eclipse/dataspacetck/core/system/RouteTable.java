@@ -0,0 +1,316 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Maps path expressions to targets.
+ * <p>
+ * Path expressions are regular expressions matched against the complete path. They are compiled once on registration:
+ * expressions without regular expression syntax are resolved with a single hash lookup, and plain segment expressions
+ * whose segments can only match within a single path segment, such as {@code /negotiations/[^/]+/request}, are indexed
+ * in a segment trie. Remaining expressions are matched as a whole in registration order.
+ * <p>
+ * Registration and deregistration publish an immutable snapshot, so lookups never block and are safe while routes change.
+ */
+public class RouteTable<T> {
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final Map<String, Route<T>> routes = new LinkedHashMap<>();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(Map.of(), new Node<>(), List.of());
+
+    /**
+     * Registers the target for the path expression, replacing an existing registration.
+     */
+    public synchronized void register(String expression, T target) {
+        routes.put(expression, compile(expression, target));
+        snapshot = build();
+    }
+
+    /**
+     * Removes the registration for the path expression and returns its target, or null if none was registered.
+     */
+    @Nullable
+    public synchronized T deregister(String expression) {
+        var removed = routes.remove(expression);
+        if (removed == null) {
+            return null;
+        }
+        snapshot = build();
+        return removed.target();
+    }
+
+    /**
+     * Removes all registrations.
+     */
+    public synchronized void clear() {
+        routes.clear();
+        snapshot = build();
+    }
+
+    /**
+     * Returns the target whose path expression matches the path or null.
+     */
+    @Nullable
+    public T lookup(String path) {
+        var current = snapshot;
+        var literal = current.literals().get(path);
+        if (literal != null) {
+            return literal.target();
+        }
+        var route = current.root().match(path, path.split("/", -1), 0);
+        if (route != null) {
+            return route.target();
+        }
+        for (var fallback : current.fallbacks()) {
+            if (fallback.pattern().matcher(path).matches()) {
+                return fallback.target();
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        return routes.size();
+    }
+
+    /**
+     * Returns the registered path expressions in registration order.
+     */
+    public synchronized List<String> expressions() {
+        return List.copyOf(routes.keySet());
+    }
+
+    private Route<T> compile(String expression, T target) {
+        var pattern = Pattern.compile(expression);
+        if (isLiteral(expression)) {
+            return new Route<>(expression, pattern, target, true, null);
+        }
+        var segments = splitSegments(expression);
+        if (segments == null) {
+            return new Route<>(expression, pattern, target, false, null);
+        }
+        var compiledSegments = segments.stream()
+                .map(segment -> new Segment(segment, isLiteral(segment) ? null : Pattern.compile(segment)))
+                .toList();
+        return new Route<>(expression, pattern, target, false, compiledSegments);
+    }
+
+    private Snapshot<T> build() {
+        var literals = new HashMap<String, Route<T>>();
+        var root = new Node<T>();
+        var fallbacks = new ArrayList<Route<T>>();
+        for (var route : routes.values()) {
+            if (route.literal()) {
+                literals.put(route.expression(), route);
+            } else if (route.segments() == null) {
+                fallbacks.add(route);
+            } else {
+                root.insert(route.segments(), 0, route);
+            }
+        }
+        return new Snapshot<>(literals, root, fallbacks);
+    }
+
+    private static boolean isLiteral(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (METACHARACTERS.indexOf(value.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the expression on '/' separators. Returns null unless every segment is a plain segment pattern, that is, it
+     * only consists of literal characters, escaped metacharacters, quantifiers, groups and character classes that cannot
+     * match '/'. Other expressions, for example with escapes such as {@code \/} or {@code \x2F} that may denote a
+     * separator, are matched as a whole.
+     */
+    @Nullable
+    private static List<String> splitSegments(String expression) {
+        var segments = new ArrayList<String>();
+        var segment = new StringBuilder();
+        int groupDepth = 0;
+        for (int i = 0; i < expression.length(); i++) {
+            var c = expression.charAt(i);
+            switch (c) {
+                case '\\' -> {
+                    // only escaped metacharacters are known to match a single character other than '/'
+                    if (i + 1 >= expression.length() || METACHARACTERS.indexOf(expression.charAt(i + 1)) < 0) {
+                        return null;
+                    }
+                    segment.append(c).append(expression.charAt(++i));
+                }
+                case '[' -> {
+                    var end = classEnd(expression, i);
+                    if (end < 0) {
+                        return null;
+                    }
+                    var characterClass = expression.substring(i, end + 1);
+                    if (!isSegmentClass(characterClass)) {
+                        return null;
+                    }
+                    segment.append(characterClass);
+                    i = end;
+                }
+                case '(' -> {
+                    // special constructs such as lookarounds, flags or named groups are matched as a whole
+                    if (i + 1 < expression.length() && expression.charAt(i + 1) == '?' && !expression.startsWith("(?:", i)) {
+                        return null;
+                    }
+                    groupDepth++;
+                    segment.append(c);
+                }
+                case ')' -> {
+                    groupDepth--;
+                    segment.append(c);
+                }
+                case '.', '^', '$' -> {
+                    return null;
+                }
+                case '|' -> {
+                    if (groupDepth == 0) {
+                        return null;
+                    }
+                    segment.append(c);
+                }
+                case '/' -> {
+                    if (groupDepth > 0 || (i + 1 < expression.length() && "?*+{".indexOf(expression.charAt(i + 1)) >= 0)) {
+                        return null;
+                    }
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                }
+                default -> segment.append(c);
+            }
+        }
+        segments.add(segment.toString());
+        return segments;
+    }
+
+    /**
+     * Returns true if the character class cannot match '/': a negated class must exclude it and any other class must not
+     * include it, either as a character or within a range. Classes with escapes, nested classes or intersections are
+     * not analyzed.
+     */
+    private static boolean isSegmentClass(String characterClass) {
+        var negated = characterClass.startsWith("[^");
+        var body = characterClass.substring(negated ? 2 : 1, characterClass.length() - 1);
+        var containsSeparator = false;
+        for (int i = 0; i < body.length(); i++) {
+            var c = body.charAt(i);
+            if (c == '\\' || c == '[' || c == '&') {
+                return false;
+            }
+            if (i + 2 < body.length() && body.charAt(i + 1) == '-') {
+                var last = body.charAt(i + 2);
+                if (last == '\\' || last == '[' || last == '&') {
+                    return false;
+                }
+                containsSeparator |= c <= '/' && '/' <= last;
+                i += 2;
+            } else {
+                containsSeparator |= c == '/';
+            }
+        }
+        return negated == containsSeparator;
+    }
+
+    private static int classEnd(String expression, int start) {
+        for (int i = start + 1; i < expression.length(); i++) {
+            var c = expression.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == ']' && i > start + 1 && !(i == start + 2 && expression.charAt(start + 1) == '^')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Route<T>(String expression, Pattern pattern, T target, boolean literal, @Nullable List<Segment> segments) {
+    }
+
+    private record Segment(String text, @Nullable Pattern pattern) {
+    }
+
+    private record Snapshot<T>(Map<String, Route<T>> literals, Node<T> root, List<Route<T>> fallbacks) {
+    }
+
+    /**
+     * A trie node. Nodes are only mutated while a snapshot is built and are read-only once published.
+     */
+    private static class Node<T> {
+        private final Map<String, Node<T>> literalChildren = new HashMap<>();
+        private final Map<String, PatternChild<T>> patternChildren = new LinkedHashMap<>();
+        private final List<Route<T>> routes = new ArrayList<>();
+
+        void insert(List<Segment> segments, int index, Route<T> route) {
+            if (index == segments.size()) {
+                routes.add(route);
+                return;
+            }
+            var segment = segments.get(index);
+            Node<T> child;
+            if (segment.pattern() == null) {
+                child = literalChildren.computeIfAbsent(segment.text(), k -> new Node<>());
+            } else {
+                child = patternChildren.computeIfAbsent(segment.text(), k -> new PatternChild<>(segment.pattern(), new Node<>())).node();
+            }
+            child.insert(segments, index + 1, route);
+        }
+
+        @Nullable
+        Route<T> match(String path, String[] segments, int index) {
+            if (index == segments.length) {
+                for (var route : routes) {
+                    if (route.pattern().matcher(path).matches()) {
+                        return route;
+                    }
+                }
+                return null;
+            }
+            var segment = segments[index];
+            var literalChild = literalChildren.get(segment);
+            if (literalChild != null) {
+                var route = literalChild.match(path, segments, index + 1);
+                if (route != null) {
+                    return route;
+                }
+            }
+            for (var child : patternChildren.values()) {
+                if (child.pattern().matcher(segment).matches()) {
+                    var route = child.node().match(path, segments, index + 1);
+                    if (route != null) {
+                        return route;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private record PatternChild<T>(Pattern pattern, Node<T> node) {
+    }
+}
@@ -19,11 +19,14 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.api.system.HandlerResponse;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.SystemLauncher;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
@@ -36,14 +39,19 @@ import org.junit.platform.commons.JUnitException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.InetSocketAddress;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.Boolean.parseBoolean;
+import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_EXECUTOR;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_SCOPED;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_THREADS;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_EXECUTOR;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_THREADS;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_HOST;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_PORT;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_HOST;
@@ -57,48 +65,43 @@ import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
 public class SystemBootstrapExtension implements BeforeAllCallback,
         BeforeEachCallback,
         BeforeTestExecutionCallback,
+        AfterEachCallback,
+        AfterAllCallback,
         ParameterResolver,
         AutoCloseable {
 
     private static final ExtensionContext.Namespace CALLBACK_NAMESPACE = org.junit.jupiter.api.extension.ExtensionContext.Namespace.create(new Object());
+    private static final String SCOPE_PATH = "/scopes/";
+    private static final AtomicLong SCOPES = new AtomicLong();
+    private static final AtomicLong EXECUTIONS = new AtomicLong();
+    private static final String INITIALIZED_KEY = SystemBootstrapExtension.class.getName() + "-initialized";
+    private static final String EXECUTION_KEY = SystemBootstrapExtension.class.getName() + "-execution";
 
     private static boolean started;
+    private static int activeExecutions;
     private static SystemLauncher launcher;
     private static DispatchingHandler dispatchingHandler;
     private static HttpServer server;
     private static ConsoleMonitor monitor;
+    private static CallbackExecutor callbackExecutor;
     private String callbackHost;
     private int callbackPort;
-    private ExecutorService executorService;
+
+    /**
+     * Returns the id of the service scope for the context. Scope ids are unique across launcher executions, so the same
+     * test may run concurrently in several executions without sharing services.
+     */
+    static String scopeId(ExtensionContext context) {
+        var execution = context.getRoot().getStore(GLOBAL).getOrComputeIfAbsent(EXECUTION_KEY, k -> EXECUTIONS.incrementAndGet(), Long.class);
+        return context.getUniqueId() + "#" + execution;
+    }
 
     @Override
     public void beforeAll(ExtensionContext context) {
-        if (started) {
-            return;
+        // test classes and launcher executions may start concurrently
+        synchronized (SystemBootstrapExtension.class) {
+            start(context);
         }
-        started = true;
-        context.getRoot().getStore(GLOBAL).put(SystemBootstrapExtension.class.getName() + "-initialized", this);
-
-        launcher = initializeLauncher(context);
-
-        var ansi = parseBoolean(context.getConfigurationParameter(ANSI_PROPERTY).orElse(propertyOrEnv(ANSI_PROPERTY, "true")));
-        var debug = parseBoolean(context.getConfigurationParameter(DEBUG_PROPERTY).orElse(propertyOrEnv(DEBUG_PROPERTY, "false")));
-
-        this.callbackHost = context.getConfigurationParameter(TCK_HOST).orElse(TCK_DEFAULT_HOST);
-        this.callbackPort = context.getConfigurationParameter(TCK_PORT).map(Integer::parseInt).orElse(TCK_DEFAULT_PORT);
-
-        monitor = new ConsoleMonitor(debug, ansi);
-        var configuration = SystemConfiguration.Builder.newInstance()
-                .propertyDelegate(k -> context.getConfigurationParameter(k).orElse(propertyOrEnv(k, null)))
-                .monitor(monitor)
-                .build();
-
-        launcher.start(configuration);
-
-        dispatchingHandler = new DispatchingHandler();
-        executorService = Executors.newFixedThreadPool(4);
-        server = initializeCallbackServer(dispatchingHandler, executorService);
-        server.start();
     }
 
     @Override
@@ -112,7 +115,7 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
         context.getTestMethod().ifPresent(method -> {
             var annotations = method.getDeclaredAnnotations();
             var tags = context.getTags();
-            var id = context.getUniqueId();
+            var id = scopeId(context);
             var configuration = ServiceConfiguration.Builder.newInstance()
                     .tags(tags)
                     .scopeId(id)
@@ -123,16 +126,59 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
         });
     }
 
+    @Override
+    public void afterEach(ExtensionContext context) {
+        closeScope(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        closeScope(context);
+    }
+
+    /**
+     * Keeps the system running once started until {@link #release()} is invoked, so consecutive launcher executions
+     * do not restart it.
+     */
+    public static void retain() {
+        synchronized (SystemBootstrapExtension.class) {
+            activeExecutions++;
+        }
+    }
+
+    /**
+     * Releases a system retained by {@link #retain()} or a completed launcher execution. The system is stopped once it
+     * is no longer used.
+     */
+    public static void release() {
+        synchronized (SystemBootstrapExtension.class) {
+            if (--activeExecutions > 0) {
+                return;
+            }
+            stop();
+        }
+    }
+
+    /**
+     * Invoked when a launcher execution that used the extension completes.
+     */
     @Override
     public void close() {
+        release();
+    }
+
+    private static void stop() {
         if (launcher != null) {
             launcher.close();
         }
         if (server != null) {
             server.stop(0);
         }
-        if (executorService != null) {
-            executorService.shutdown();
+        if (callbackExecutor != null) {
+            var statistics = callbackExecutor.getStatistics();
+            monitor.debug(format("Callback executor: %d requests, max queue depth %d, mean handler time %.2f ms, max handler time %.2f ms",
+                    statistics.completed(), statistics.maxQueueDepth(), statistics.meanHandlerMillis(), statistics.maxHandlerNanos() / 1_000_000d));
+            callbackExecutor.close();
         }
         started = false;
     }
@@ -151,7 +197,7 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
             return service;
         }
         var tags = context.getTags();
-        var id = context.getUniqueId();
+        var id = scopeId(context);
         var configuration = ServiceConfiguration.Builder.newInstance()
                 .tags(tags)
                 .scopeId(id)
@@ -165,6 +211,50 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
         throw new ParameterResolutionException("Unsupported parameter type: " + type.getName());
     }
 
+    private void start(ExtensionContext context) {
+        var root = context.getRoot().getStore(GLOBAL);
+        if (root.get(INITIALIZED_KEY) == null) {
+            // closed with the root context when the execution completes
+            root.put(INITIALIZED_KEY, this);
+            activeExecutions++;
+        }
+        if (started) {
+            return;
+        }
+        started = true;
+
+        launcher = initializeLauncher(context);
+
+        var ansi = parseBoolean(context.getConfigurationParameter(ANSI_PROPERTY).orElse(propertyOrEnv(ANSI_PROPERTY, "true")));
+        var debug = parseBoolean(context.getConfigurationParameter(DEBUG_PROPERTY).orElse(propertyOrEnv(DEBUG_PROPERTY, "false")));
+
+        this.callbackHost = context.getConfigurationParameter(TCK_HOST).orElse(TCK_DEFAULT_HOST);
+        this.callbackPort = context.getConfigurationParameter(TCK_PORT).map(Integer::parseInt).orElse(TCK_DEFAULT_PORT);
+
+        monitor = new ConsoleMonitor(debug, ansi);
+        var configuration = SystemConfiguration.Builder.newInstance()
+                .propertyDelegate(k -> context.getConfigurationParameter(k).orElse(propertyOrEnv(k, null)))
+                .monitor(monitor)
+                .build();
+
+        launcher.start(configuration);
+
+        dispatchingHandler = new DispatchingHandler();
+        var executorMode = CallbackExecutor.Mode.parse(context.getConfigurationParameter(TCK_CALLBACK_EXECUTOR)
+                .orElse(propertyOrEnv(TCK_CALLBACK_EXECUTOR, TCK_DEFAULT_CALLBACK_EXECUTOR)));
+        var executorThreads = CallbackExecutor.parseThreads(context.getConfigurationParameter(TCK_CALLBACK_THREADS)
+                .orElse(propertyOrEnv(TCK_CALLBACK_THREADS, String.valueOf(TCK_DEFAULT_CALLBACK_THREADS))));
+        callbackExecutor = CallbackExecutor.create(executorMode, executorThreads, monitor);
+        server = initializeCallbackServer(dispatchingHandler, callbackExecutor);
+        server.start();
+    }
+
+    private void closeScope(ExtensionContext context) {
+        if (launcher != null) {
+            launcher.closeScope(scopeId(context));
+        }
+    }
+
     @NotNull
     private Object resolveInHierarchy(Class<?> type, ServiceConfiguration configuration, ExtensionContext context) {
         var resolved = resolve(type, context);
@@ -193,7 +283,10 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
         var endpointBuilder = DefaultCallbackEndpoint.Builder.newInstance();
         endpointBuilder.address(context.getConfigurationParameter(TCK_CALLBACK_ADDRESS)
                 .orElse(propertyOrEnv(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS)));
-        endpointBuilder.listener(dispatchingHandler::deregisterEndpoint);
+        endpointBuilder.listener(dispatchingHandler);
+        if (parseBoolean(context.getConfigurationParameter(TCK_CALLBACK_SCOPED).orElse(propertyOrEnv(TCK_CALLBACK_SCOPED, "false")))) {
+            endpointBuilder.scopePath(SCOPE_PATH + SCOPES.incrementAndGet());
+        }
 
         var endpoint = endpointBuilder.build();
         dispatchingHandler.registerEndpoint(endpoint);
@@ -215,52 +308,80 @@ public class SystemBootstrapExtension implements BeforeAllCallback,
         }
     }
 
-    private HttpServer initializeCallbackServer(HttpHandler rootHandler, ExecutorService executorService) {
+    private HttpServer initializeCallbackServer(HttpHandler rootHandler, Executor executor) {
         try {
             server = HttpServer.create(new InetSocketAddress(callbackHost, callbackPort), 0);
             server.createContext("/", rootHandler);
-            server.setExecutor(executorService);
+            server.setExecutor(executor);
             return server;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static class DispatchingHandler implements HttpHandler {
-        private final Queue<DefaultCallbackEndpoint> endpoints = new ConcurrentLinkedQueue<>();
-
-        void registerEndpoint(DefaultCallbackEndpoint endpoint) {
-            endpoints.add(endpoint);
-        }
-
-        void deregisterEndpoint(DefaultCallbackEndpoint endpoint) {
-            endpoints.remove(endpoint);
-        }
+    /**
+     * Dispatches callback requests to the endpoint owning the matching handler, resolved through the endpoint index.
+     */
+    static class DispatchingHandler extends CallbackEndpointIndex implements HttpHandler {
+        // HttpExchange.sendResponseHeaders length values
+        private static final long NO_BODY = -1;
+        private static final long CHUNKED = 0;
+        private static final String PROBE_METHOD = "OPTIONS";
 
         @Override
         public void handle(HttpExchange exchange) throws IOException {
             var path = exchange.getRequestURI().getPath();
+            var endpoints = lookup(path);
+            if (PROBE_METHOD.equals(exchange.getRequestMethod())) {
+                probe(exchange, path, endpoints);
+                return;
+            }
             for (var endpoint : endpoints) {
-                if (endpoint.handlesPath(path)) {
-                    var response = endpoint.apply(path, exchange.getRequestHeaders(), exchange.getRequestBody());
-                    response.headers().forEach(exchange.getResponseHeaders()::add);
-                    if (response.result() == null) {
-                        exchange.sendResponseHeaders(response.code(), 0);
-                        exchange.close();
-                    } else {
-                        var bytes = response.result().getBytes();
-                        response.headers().forEach(exchange.getResponseHeaders()::add);
-                        exchange.sendResponseHeaders(response.code(), bytes.length);
-                        var responseBody = exchange.getResponseBody();
-                        responseBody.write(bytes);
-                        responseBody.close();
+                endpoint.callbackReceived();
+                try {
+                    var dispatched = endpoint.dispatch(path, exchange.getRequestHeaders(), exchange.getRequestBody());
+                    if (dispatched.isPresent()) {
+                        writeResponse(exchange, dispatched.get());
+                        return;
                     }
-                    return;
+                } finally {
+                    endpoint.callbackAcknowledged();
                 }
             }
-            exchange.sendResponseHeaders(404, 0);
+            exchange.sendResponseHeaders(404, NO_BODY);
+            exchange.close();
+        }
+
+        /**
+         * Answers a readiness probe without dispatching it: 204 if a handler is registered for the path, otherwise 404.
+         */
+        private void probe(HttpExchange exchange, String path, List<DefaultCallbackEndpoint> endpoints) throws IOException {
+            var registered = endpoints.stream().anyMatch(endpoint -> endpoint.handlesPath(path));
+            if (registered) {
+                exchange.getResponseHeaders().add("Allow", "POST");
+            }
+            exchange.sendResponseHeaders(registered ? 204 : 404, NO_BODY);
             exchange.close();
         }
+
+        /**
+         * Writes the body directly to the exchange. Pre-encoded bodies are sent with their content length, streamed
+         * bodies with chunked transfer encoding.
+         */
+        private void writeResponse(HttpExchange exchange, HandlerResponse response) throws IOException {
+            response.headers().forEach(exchange.getResponseHeaders()::add);
+            var body = response.body();
+            if (body == null || body.length() == 0) {
+                exchange.sendResponseHeaders(response.code(), NO_BODY);
+                exchange.close();
+                return;
+            }
+            var length = body.length();
+            exchange.sendResponseHeaders(response.code(), length < 0 ? CHUNKED : length);
+            try (var responseBody = exchange.getResponseBody()) {
+                body.writeTo(responseBody);
+            }
+        }
     }
 
 }
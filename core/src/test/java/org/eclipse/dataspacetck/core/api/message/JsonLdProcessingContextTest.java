@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLdProcessingContextTest {
+    private static final URI DSP_CONTEXT = URI.create("https://w3id.org/dspace/2025/1/context.jsonld");
+    private static final URI ODRL_PROFILE = URI.create("https://w3id.org/dspace/2025/1/odrl-profile.jsonld");
+    private static final URI CUSTOM_CONTEXT = URI.create("https://example.com/context.jsonld");
+
+    private final Map<URI, Document> documents = new HashMap<>();
+    private JsonLdProcessingContext context;
+
+    @Test
+    void verifyExpandMatchesPerCallOptions() throws JsonLdError {
+        var message = event("urn:uuid:1", "ACCEPTED");
+
+        assertThat(context.expand(message)).isEqualTo(expandPerCall(message));
+        // a second expansion is served from the caches
+        assertThat(context.expand(message)).isEqualTo(expandPerCall(message));
+    }
+
+    @Test
+    void verifyCompactMatchesPerCallOptions() throws JsonLdError {
+        var expanded = expandPerCall(event("urn:uuid:1", "ACCEPTED")).getJsonObject(0);
+
+        assertThat(context.compact(expanded, compactContext())).isEqualTo(compactPerCall(expanded));
+        assertThat(context.compact(expanded, compactContext())).isEqualTo(compactPerCall(expanded));
+    }
+
+    @Test
+    void verifyConcurrentUse() throws Exception {
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int i = 0; i < 64; i++) {
+            var message = event("urn:uuid:" + i, i % 2 == 0 ? "ACCEPTED" : "FINALIZED");
+            var expanded = expandPerCall(message);
+            var compacted = compactPerCall(expanded.getJsonObject(0));
+            tasks.add(() -> {
+                var result = context.expand(message);
+                return result.equals(expanded) && context.compact(result.getJsonObject(0), compactContext()).equals(compacted);
+            });
+        }
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var results = executor.invokeAll(tasks, 30, SECONDS);
+            for (var result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyRegisterDocumentInvalidatesCaches() throws JsonLdError {
+        var message = Json.createObjectBuilder()
+                .add("@context", CUSTOM_CONTEXT.toString())
+                .add("@id", "urn:uuid:1")
+                .add("name", "value")
+                .build();
+
+        context.registerDocument(CUSTOM_CONTEXT, customContext("https://example.com/first#name"));
+        assertThat(context.expand(message).getJsonObject(0)).containsKey("https://example.com/first#name");
+
+        context.registerDocument(CUSTOM_CONTEXT, customContext("https://example.com/second#name"));
+        assertThat(context.expand(message).getJsonObject(0)).containsKey("https://example.com/second#name")
+                .doesNotContainKey("https://example.com/first#name");
+    }
+
+    @BeforeEach
+    void setUp() throws JsonLdError {
+        context = new JsonLdProcessingContext();
+        register(DSP_CONTEXT, "dsp-2025-1.jsonld");
+        register(ODRL_PROFILE, "dsp-2025-1-odrl-profile.jsonld");
+    }
+
+    private void register(URI uri, String resource) throws JsonLdError {
+        documents.put(uri, JsonDocument.of(getClass().getClassLoader().getResourceAsStream(resource)));
+        context.registerDocument(uri, JsonDocument.of(getClass().getClassLoader().getResourceAsStream(resource)));
+    }
+
+    /**
+     * Expands with fresh options per call, as the serializer did before the context was shared.
+     */
+    private JsonArray expandPerCall(JsonObject message) throws JsonLdError {
+        var options = new JsonLdOptions((uri, loaderOptions) -> documents.get(uri));
+        return JsonLd.expand(JsonDocument.of(message)).options(options).get();
+    }
+
+    private JsonObject compactPerCall(JsonObject message) throws JsonLdError {
+        var options = new JsonLdOptions((uri, loaderOptions) -> documents.get(uri));
+        return JsonLd.compact(JsonDocument.of(message), compactContext()).options(options).get();
+    }
+
+    private static JsonDocument compactContext() {
+        return JsonDocument.of(Json.createObjectBuilder()
+                .add("@context", Json.createArrayBuilder().add(DSP_CONTEXT.toString()))
+                .build());
+    }
+
+    private static JsonDocument customContext(String iri) {
+        return JsonDocument.of(Json.createObjectBuilder()
+                .add("@context", Json.createObjectBuilder().add("name", iri))
+                .build());
+    }
+
+    private static JsonObject event(String id, String eventType) {
+        return Json.createObjectBuilder()
+                .add("@context", Json.createArrayBuilder().add(DSP_CONTEXT.toString()))
+                .add("@id", id)
+                .add("@type", "ContractNegotiationEventMessage")
+                .add("providerPid", "urn:provider")
+                .add("consumerPid", "urn:consumer")
+                .add("eventType", eventType)
+                .build();
+    }
+}
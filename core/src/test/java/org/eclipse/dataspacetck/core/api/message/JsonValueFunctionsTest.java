@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.MAPPER;
+
+class JsonValueFunctionsTest {
+
+    @Test
+    void verifyRoundTripMatchesObjectMapper() throws Exception {
+        var nested = new HashMap<String, Object>();
+        nested.put("@value", "foo");
+        nested.put("nothing", null);
+        var source = Map.of(
+                "@id", "urn:test",
+                "count", 1,
+                "large", 10_000_000_000L,
+                "ratio", 0.5,
+                "flag", true,
+                "values", new ArrayList<>(List.of(nested, "bar")));
+
+        var jsonObject = JsonValueFunctions.toJsonObject(source);
+        var read = JsonValueFunctions.readObject(new ByteArrayInputStream(JsonValueFunctions.write(jsonObject).getBytes(UTF_8)));
+
+        assertThat(JsonValueFunctions.toMap(read)).isEqualTo(MAPPER.readValue(MAPPER.writeValueAsString(source), Map.class));
+        assertThat(JsonValueFunctions.toJsonNode(read)).isEqualTo(MAPPER.valueToTree(source));
+    }
+
+    @Test
+    void verifyWriteMatchesTree() {
+        var nested = new HashMap<String, Object>();
+        nested.put("@value", "foo");
+        nested.put("nothing", null);
+        var source = Map.of(
+                "@id", "urn:test",
+                "count", 1,
+                "flag", true,
+                "values", List.of(nested, "bar"));
+        var stream = new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+
+        try (var generator = JsonValueFunctions.createGenerator(stream)) {
+            JsonValueFunctions.write(generator, source);
+        }
+
+        assertThat(stream.toString(UTF_8)).isEqualTo(JsonValueFunctions.write(JsonValueFunctions.toJsonObject(source)));
+        assertThat(stream.closed).isFalse();
+    }
+
+    @Test
+    void verifyProcessJsonLd() {
+        var message = """
+                {
+                  "@context": ["https://w3id.org/dspace/2025/1/context.jsonld"],
+                  "@type": "ContractRequestMessage",
+                  "consumerPid": "urn:consumer",
+                  "callbackAddress": "https://example.com"
+                }
+                """;
+
+        var expanded = MessageSerializer.processJsonLd(new ByteArrayInputStream(message.getBytes(UTF_8)));
+
+        assertThat(expanded.get("@type")).isEqualTo(List.of("https://w3id.org/dspace/2025/1/ContractRequestMessage"));
+        assertThat(expanded.get("https://w3id.org/dspace/2025/1/consumerPid")).isEqualTo(List.of(Map.of("@id", "urn:consumer")));
+    }
+
+    @Test
+    void verifySymbolsApplied() {
+        var key = "urn:key";
+        var type = "urn:type";
+        var json = """
+                {"urn:key": {"@id": "urn:id"}, "@type": ["urn:type"], "other": "urn:type"}
+                """;
+        JsonValueFunctions.useSymbols(value -> value.equals(key) ? key : value.equals(type) ? type : value);
+        try {
+            var map = JsonValueFunctions.toMap(JsonValueFunctions.readObject(new ByteArrayInputStream(json.getBytes(UTF_8))));
+
+            assertThat(map.keySet()).anySatisfy(k -> assertThat(k).isSameAs(key));
+            assertThat((List<?>) map.get("@type")).singleElement().isSameAs(type);
+            assertThat(map.get("other")).isEqualTo(type).isNotSameAs(type);
+        } finally {
+            JsonValueFunctions.useSymbols(null);
+        }
+    }
+}
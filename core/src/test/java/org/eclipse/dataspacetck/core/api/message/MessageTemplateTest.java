@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.compile;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.slot;
+
+class MessageTemplateTest {
+
+    @Test
+    void verifyFillMatchesSerialize() {
+        var template = compile(event(slot("id"), slot("providerPid"), slot("consumerPid"), slot("eventType")),
+                "id", "providerPid", "consumerPid", "eventType");
+
+        var filled = template.fill("urn:uuid:1", "urn:provider", "urn:consumer", "ACCEPTED");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(event("urn:uuid:1", "urn:provider", "urn:consumer", "ACCEPTED")));
+    }
+
+    @Test
+    void verifyValuesEscaped() {
+        var template = compile(termination(slot("code")), "code");
+
+        var code = "a \"quoted\"\tcode\\\n";
+        var filled = template.fill(code);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(termination(code)));
+    }
+
+    @Test
+    void verifySlotsChecked() {
+        var message = event(slot("id"), slot("providerPid"), slot("consumerPid"), "ACCEPTED");
+
+        assertThatThrownBy(() -> compile(message, "id", "providerPid")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(message, "id", "providerPid", "consumerPid", "eventType")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(message, "id", "providerPid", "consumerPid").fill("urn:uuid:1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, Object> event(String id, String providerPid, String consumerPid, String eventType) {
+        var message = new LinkedHashMap<String, Object>();
+        message.put("@context", List.of("https://w3id.org/dspace/2025/1/context.jsonld"));
+        message.put("@id", id);
+        message.put("@type", "ContractNegotiationEventMessage");
+        message.put("providerPid", providerPid);
+        message.put("consumerPid", consumerPid);
+        message.put("eventType", eventType);
+        return message;
+    }
+
+    private static Map<String, Object> termination(String code) {
+        var message = new LinkedHashMap<String, Object>();
+        message.put("@context", List.of("https://w3id.org/dspace/2025/1/context.jsonld"));
+        message.put("@id", "urn:uuid:1");
+        message.put("@type", "ContractNegotiationTerminationMessage");
+        message.put("providerPid", "urn:provider");
+        message.put("consumerPid", "urn:consumer");
+        message.put("code", code);
+        return message;
+    }
+}
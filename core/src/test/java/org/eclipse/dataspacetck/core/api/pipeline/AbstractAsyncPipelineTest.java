@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.pipeline;
+
+import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbstractAsyncPipelineTest {
+
+    @Test
+    void verifySignalWakesWaitingStage() {
+        var pipeline = new TestPipeline(5);
+        var ready = new AtomicBoolean();
+
+        pipeline.then(() -> new Thread(() -> {
+                    ready.set(true);
+                    pipeline.signal();
+                }).start())
+                .thenWait("ready", ready::get)
+                .execute();
+
+        assertThat(ready).isTrue();
+    }
+
+    @Test
+    void verifyConditionPolledWithoutSignal() {
+        var pipeline = new TestPipeline(5);
+        var ready = new AtomicBoolean();
+
+        pipeline.then(() -> new Thread(() -> ready.set(true)).start())
+                .thenWait("ready", ready::get)
+                .execute();
+
+        assertThat(ready).isTrue();
+    }
+
+    @Test
+    void verifyTimeout() {
+        var pipeline = new TestPipeline(1);
+
+        pipeline.thenWait("never", () -> false);
+
+        assertThatThrownBy(pipeline::execute).isInstanceOf(AssertionError.class).hasMessageContaining("never");
+    }
+
+    @Test
+    void verifyUnacknowledgedCallbackFailsStage() {
+        var endpoint = mock(CallbackEndpoint.class);
+        when(endpoint.awaitAcknowledged(any())).thenReturn(false);
+        var pipeline = new TestPipeline(endpoint, 1);
+
+        pipeline.then(pipeline::awaitAcknowledged);
+
+        assertThatThrownBy(pipeline::execute).isInstanceOf(AssertionError.class).hasMessageContaining("acknowledged");
+    }
+
+    private static class TestPipeline extends AbstractAsyncPipeline<TestPipeline> {
+        TestPipeline(long waitTime) {
+            this(mock(CallbackEndpoint.class), waitTime);
+        }
+
+        TestPipeline(CallbackEndpoint endpoint, long waitTime) {
+            super(endpoint, mock(Monitor.class), waitTime);
+        }
+    }
+}
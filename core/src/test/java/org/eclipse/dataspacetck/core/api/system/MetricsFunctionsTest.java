@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.endpointName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricsEnabled;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.transitionNames;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.useMetrics;
+import static org.mockito.Mockito.mock;
+
+class MetricsFunctionsTest {
+
+    @Test
+    void verifyIdentifierSegmentsReplaced() {
+        assertThat(endpointName("/api/dsp/negotiations/urn:uuid:1234/termination")).isEqualTo("/api/dsp/negotiations/{id}/termination");
+        assertThat(endpointName("/scopes/3/transfers/ATP0101/start/")).isEqualTo("/scopes/{id}/transfers/{id}/start");
+        assertThat(endpointName("/.well-known/dspace-version?x=1")).isEqualTo("/.well-known/dspace-version");
+        assertThat(endpointName("")).isEqualTo("/");
+    }
+
+    @Test
+    void verifyNamesSeparated() {
+        assertThat(metricName("http", "POST /negotiations/{id}")).isEqualTo("http POST /negotiations/{id}");
+    }
+
+    @Test
+    void verifyTransitionNamesIndexedByOrdinal() {
+        var names = transitionNames("test.transition", TestState.class);
+
+        assertThat(names[TestState.FIRST.ordinal()][TestState.SECOND.ordinal()]).isEqualTo("test.transition FIRST->SECOND");
+        assertThat(names[TestState.SECOND.ordinal()][TestState.FIRST.ordinal()]).isEqualTo("test.transition SECOND->FIRST");
+    }
+
+    @Test
+    void verifyEnabledOnlyWhenInstalled() {
+        assertThat(metricsEnabled()).isFalse();
+
+        useMetrics(mock(Metrics.class));
+
+        assertThat(metricsEnabled()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        useMetrics(null);
+    }
+
+    private enum TestState {
+        FIRST, SECOND
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyTest {
+
+    @Test
+    void verifyStringIsEncodedAsUtf8() throws Exception {
+        var body = ResponseBody.of("{\"title\":\"Übersicht\"}");
+
+        var stream = new ByteArrayOutputStream();
+        body.writeTo(stream);
+
+        assertThat(body.length()).isEqualTo("{\"title\":\"Übersicht\"}".getBytes(UTF_8).length);
+        assertThat(stream.toString(UTF_8)).isEqualTo("{\"title\":\"Übersicht\"}");
+    }
+
+    @Test
+    void verifyBufferWritesRemainingBytes() throws Exception {
+        var direct = ByteBuffer.allocateDirect(8).put("xx{}".getBytes(UTF_8)).flip().position(2);
+        var body = ResponseBody.of(direct);
+
+        var stream = new ByteArrayOutputStream();
+        body.writeTo(stream);
+
+        assertThat(body.length()).isEqualTo(2);
+        assertThat(stream.toString(UTF_8)).isEqualTo("{}");
+        assertThat(direct.position()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyStreamingBodyHasUnknownLength() {
+        var body = ResponseBody.streaming(stream -> stream.write("{}".getBytes(UTF_8)));
+
+        assertThat(body.length()).isEqualTo(-1);
+        assertThat(new HandlerResponse(200, body).result()).isEqualTo("{}");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.verification;
+
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.dialect.Dialects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.MAPPER;
+
+class SchemaValidatorRegistryTest {
+    private static final String SCHEMA = "classpath:/test-message-schema.json";
+
+    private SchemaValidatorRegistry registry;
+
+    @Test
+    void verifyCompiledOnce() {
+        registry.register(SCHEMA);
+        registry.register(SCHEMA);
+
+        var statistics = registry.getStatistics();
+        assertThat(statistics.schemas()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.compileNanos()).isPositive();
+    }
+
+    @Test
+    void verifyValidation() {
+        var validator = registry.register(SCHEMA);
+
+        assertThat(validator.validate(MAPPER.valueToTree(Map.of("@type", "TestMessage")))).isEmpty();
+        assertThat(validator.validate(MAPPER.valueToTree(Map.of("@type", "Other")))).isNotEmpty();
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SchemaValidatorRegistry(SchemaRegistry.withDialect(Dialects.getDraft201909()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CallbackEndpointIndexTest {
+
+    private CallbackEndpointIndex index;
+
+    @Test
+    void verifyRoutesByHandlerPath() {
+        var first = endpoint("/scopes/1");
+        var second = endpoint("/scopes/2");
+        first.registerHandler("/negotiations/[^/]+/request", mock());
+        second.registerHandler("/negotiations/[^/]+/request", mock());
+        second.registerHandler("/transfers/[^/]+/start", mock());
+
+        assertThat(index.lookup("/scopes/1/negotiations/123/request")).containsExactly(first);
+        assertThat(index.lookup("/scopes/2/negotiations/123/request/")).containsExactly(second);
+        assertThat(index.lookup("/scopes/2/transfers/123/start")).containsExactly(second);
+        assertThat(index.lookup("/scopes/1/transfers/123/start")).isEmpty();
+    }
+
+    @Test
+    void verifyEndpointsSharingPath() {
+        var first = endpoint(null);
+        var second = endpoint(null);
+        first.registerHandler("/foo", mock());
+        second.registerHandler("/foo", mock());
+
+        assertThat(index.lookup("/foo")).containsExactly(first, second);
+
+        first.deregisterHandler("/foo");
+
+        assertThat(index.lookup("/foo")).containsExactly(second);
+    }
+
+    @Test
+    void verifyHandlersRegisteredBeforeAttach() {
+        var endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").listener(index).build();
+        var detached = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").build();
+        detached.registerHandler("/bar", mock());
+
+        index.registerEndpoint(detached);
+        endpoint.registerHandler("/foo", mock());
+
+        assertThat(index.lookup("/bar")).containsExactly(detached);
+        assertThat(index.lookup("/foo")).containsExactly(endpoint);
+    }
+
+    @Test
+    void verifyRemovedOnDeregistration() {
+        var endpoint = endpoint(null);
+        endpoint.registerHandler("/foo/[^/]+/bar", mock());
+        endpoint.registerHandler("/baz", mock());
+
+        endpoint.deregisterHandler("/foo/[^/]+/bar");
+
+        assertThat(index.lookup("/foo/123/bar")).isEmpty();
+        assertThat(index.lookup("/baz")).containsExactly(endpoint);
+    }
+
+    @Test
+    void verifyRemovedOnClose() {
+        var endpoint = endpoint(null);
+        var other = endpoint(null);
+        endpoint.registerHandler("/foo", mock());
+        other.registerHandler("/bar", mock());
+
+        endpoint.close();
+
+        assertThat(index.lookup("/foo")).isEmpty();
+        assertThat(index.lookup("/bar")).containsExactly(other);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new CallbackEndpointIndex();
+    }
+
+    private DefaultCallbackEndpoint endpoint(String scopePath) {
+        var builder = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").listener(index);
+        if (scopePath != null) {
+            builder.scopePath(scopePath);
+        }
+        var endpoint = builder.build();
+        index.registerEndpoint(endpoint);
+        return endpoint;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.useMetrics;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_THREADS;
+import static org.mockito.Mockito.mock;
+
+class CallbackExecutorTest {
+
+    @Test
+    void verifyParseThreads() {
+        assertThat(CallbackExecutor.parseThreads("8")).isEqualTo(8);
+        assertThat(CallbackExecutor.parseThreads(" 2 ")).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "four", "1.5", "0", "-1"})
+    void verifyInvalidThreadsRejected(String value) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CallbackExecutor.parseThreads(value))
+                .withMessageContaining(TCK_CALLBACK_THREADS)
+                .withMessageContaining("'" + value + "'");
+    }
+
+    @Test
+    void verifyNonPositiveThreadsRejectedOnCreate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CallbackExecutor.create(CallbackExecutor.Mode.FIXED, 0, mock(Monitor.class)));
+    }
+
+    @Test
+    void verifyModeParse() {
+        assertThat(CallbackExecutor.Mode.parse("work-stealing")).isEqualTo(CallbackExecutor.Mode.WORK_STEALING);
+        assertThat(CallbackExecutor.Mode.parse(" Fixed ")).isEqualTo(CallbackExecutor.Mode.FIXED);
+        assertThatIllegalArgumentException().isThrownBy(() -> CallbackExecutor.Mode.parse("pooled"));
+    }
+
+    @Test
+    void verifyStatisticsRecorded() throws InterruptedException {
+        try (var executor = CallbackExecutor.create(CallbackExecutor.Mode.FIXED, 2, mock(Monitor.class))) {
+            var latch = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(latch::countDown);
+            }
+
+            assertThat(latch.await(5, SECONDS)).isTrue();
+            await().atMost(5, SECONDS).untilAsserted(() -> assertThat(executor.getStatistics().completed()).isEqualTo(3));
+
+            var statistics = executor.getStatistics();
+            assertThat(statistics.queueDepth()).isZero();
+            assertThat(statistics.maxQueueDepth()).isPositive();
+            assertThat(statistics.meanHandlerMillis()).isNotNegative();
+        }
+    }
+
+    @Test
+    void verifyMetricsPublished() throws InterruptedException {
+        var metrics = new DefaultMetrics();
+        useMetrics(metrics);
+        try (var executor = CallbackExecutor.create(CallbackExecutor.Mode.FIXED, 2, mock(Monitor.class))) {
+            var latch = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(latch::countDown);
+            }
+
+            assertThat(latch.await(5, SECONDS)).isTrue();
+            await().atMost(5, SECONDS).untilAsserted(() -> assertThat(executor.getStatistics().completed()).isEqualTo(3));
+
+            assertThat(metrics.getTimers().get("callback.executor.handler").count()).isEqualTo(3);
+            assertThat(metrics.getTimers().get("callback.executor.wait").count()).isEqualTo(3);
+            assertThat(metrics.getHistograms().get("callback.executor.queue").count()).isEqualTo(3);
+        } finally {
+            useMetrics(null);
+        }
+    }
+}
@@ -14,15 +14,23 @@
 
 package org.eclipse.dataspacetck.core.system;
 
+import org.eclipse.dataspacetck.core.api.system.HandlerResponse;
+import org.eclipse.dataspacetck.core.api.system.ProtocolHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DefaultCallbackEndpointTest {
@@ -54,6 +62,60 @@ class DefaultCallbackEndpointTest {
         assertThat(endpoint.apply("/foo/123/bar/", new ByteArrayInputStream(new byte[0]))).isEqualTo("return");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyScopedDispatch() {
+        var scoped = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost/").scopePath("/scopes/1").build();
+        var mock = mock(Function.class);
+        when(mock.apply(any())).thenReturn("return");
+        scoped.registerHandler("/foo/[^/]+/bar/", mock);
+
+        assertThat(scoped.getAddress()).isEqualTo("http://localhost/scopes/1");
+        assertThat(scoped.getHandlerPaths()).containsExactly("/scopes/1/foo/[^/]+/bar");
+        assertThat(scoped.handlesPath("/foo/123/bar")).isFalse();
+        assertThat(scoped.dispatch("/scopes/1/foo/123/bar", Map.of(), new ByteArrayInputStream(new byte[0])))
+                .hasValueSatisfying(response -> assertThat(response.result()).isEqualTo("return"));
+    }
+
+    @Test
+    void verifyScopedApplyPassesUnscopedPath() {
+        var scoped = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost/").scopePath("/scopes/1").build();
+        var paths = new ArrayList<String>();
+        scoped.registerProtocolHandler("/foo/[^/]+/bar/", new ProtocolHandler() {
+            @Override
+            public HandlerResponse apply(Map<String, List<String>> headers, InputStream body) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public HandlerResponse apply(String path, Map<String, List<String>> headers, InputStream body) {
+                paths.add(path);
+                return new HandlerResponse(200, "return");
+            }
+        });
+
+        assertThat(scoped.apply("/scopes/1/foo/123/bar/", new ByteArrayInputStream(new byte[0]))).isEqualTo("return");
+        assertThat(scoped.apply("/scopes/1/foo/456/bar", Map.of(), new ByteArrayInputStream(new byte[0])).result()).isEqualTo("return");
+        assertThat(scoped.dispatch("/scopes/1/foo/789/bar", Map.of(), new ByteArrayInputStream(new byte[0]))).isPresent();
+
+        assertThat(paths).containsExactly("/foo/123/bar", "/foo/456/bar", "/foo/789/bar");
+    }
+
+    @Test
+    void verifyDeregisterHandler() {
+        var listener = mock(DefaultCallbackEndpoint.LifecycleListener.class);
+        var scoped = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").scopePath("/scopes/1").listener(listener).build();
+        scoped.registerHandler("/foo/[^/]+/bar/", mock());
+
+        scoped.deregisterHandler("/foo/[^/]+/bar");
+        scoped.deregisterHandler("/foo/[^/]+/bar");
+
+        assertThat(scoped.handlesPath("/scopes/1/foo/123/bar")).isFalse();
+        assertThat(scoped.getHandlerPaths()).isEmpty();
+        verify(listener).onHandlerRegistered(scoped, "/scopes/1/foo/[^/]+/bar");
+        verify(listener, times(1)).onHandlerDeregistered(scoped, "/scopes/1/foo/[^/]+/bar");
+    }
+
     @BeforeEach
     void setUp() {
         endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").build();
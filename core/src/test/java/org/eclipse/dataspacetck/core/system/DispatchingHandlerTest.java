@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DispatchingHandlerTest {
+
+    private HttpServer server;
+    private DefaultCallbackEndpoint endpoint;
+
+    @Test
+    void verifyProbeAnswersRegisteredPath() throws IOException {
+        endpoint.registerHandler("/negotiations/[^/]+/request", mock());
+
+        var connection = probe("/negotiations/123/request");
+
+        assertThat(connection.getResponseCode()).isEqualTo(204);
+        assertThat(connection.getHeaderField("Allow")).isEqualTo("POST");
+    }
+
+    @Test
+    void verifyProbeRejectsUnregisteredPath() throws IOException {
+        endpoint.registerHandler("/negotiations/[^/]+/request", mock());
+
+        assertThat(probe("/negotiations/123/agreement").getResponseCode()).isEqualTo(404);
+        assertThat(probe("/transfers/123/start").getResponseCode()).isEqualTo(404);
+    }
+
+    @Test
+    void verifyProbeRejectsDeregisteredPath() throws IOException {
+        endpoint.registerHandler("/negotiations/[^/]+/request", mock());
+        endpoint.deregisterHandler("/negotiations/[^/]+/request");
+
+        assertThat(probe("/negotiations/123/request").getResponseCode()).isEqualTo(404);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        var handler = new SystemBootstrapExtension.DispatchingHandler();
+        endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").listener(handler).build();
+        handler.registerEndpoint(endpoint);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", handler);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpURLConnection probe(String path) throws IOException {
+        var url = URI.create("http://localhost:" + server.getAddress().getPort() + path).toURL();
+        var connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("OPTIONS");
+        return connection;
+    }
+}
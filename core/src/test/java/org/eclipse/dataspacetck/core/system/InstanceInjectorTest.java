@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.core.system;
+
+import org.eclipse.dataspacetck.core.api.system.ConfigParam;
+import org.eclipse.dataspacetck.core.api.system.Inject;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstanceInjectorTest {
+    private final ExtensionContext context = mock();
+    private final List<ServiceConfiguration> resolved = new ArrayList<>();
+    private InstanceInjector injector;
+
+    @Test
+    void verifyInjectsTypeHierarchy() {
+        when(context.getConfigurationParameter("VERIFYINJECTSTYPEHIERARCHY_VALUE")).thenReturn(Optional.of("configured"));
+        var instance = new Fixture();
+
+        injector.inject(instance);
+
+        assertThat(instance.service).isEqualTo("service");
+        assertThat(instance.value).isEqualTo("configured");
+        assertThat(instance.optional).isNull();
+        assertThat(resolved).singleElement().satisfies(configuration -> {
+            assertThat(configuration.getScopeId()).isEqualTo("[test]#1");
+            assertThat(configuration.getAnnotations()).hasSize(1);
+        });
+    }
+
+    @Test
+    void verifyPlanReusedAcrossInstances() {
+        when(context.getConfigurationParameter("VERIFYPLANREUSEDACROSSINSTANCES_VALUE")).thenReturn(Optional.of("configured"));
+        var first = new Fixture();
+        var second = new Fixture();
+
+        injector.inject(first);
+        injector.inject(second);
+
+        assertThat(second.service).isEqualTo("service");
+        assertThat(second.value).isEqualTo("configured");
+        assertThat(resolved).hasSize(2);
+    }
+
+    @Test
+    void verifyRequiredConfigMissing() {
+        assertThatThrownBy(() -> injector.inject(new RequiredFixture()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("VERIFYREQUIREDCONFIGMISSING_REQUIRED");
+    }
+
+    @BeforeEach
+    void setUp(TestInfo info) {
+        ExtensionContext root = mock();
+        ExtensionContext.Store store = mock();
+        when(context.getRoot()).thenReturn(root);
+        when(root.getStore(GLOBAL)).thenReturn(store);
+        when(store.getOrComputeIfAbsent(any(), any(), eq(Long.class))).thenReturn(1L);
+        when(context.getUniqueId()).thenReturn("[test]");
+        when(context.getTags()).thenReturn(Set.of());
+        when(context.getRequiredTestMethod()).thenReturn(info.getTestMethod().orElseThrow());
+        when(context.getConfigurationParameter(anyString())).thenReturn(Optional.empty());
+        injector = new InstanceInjector((type, configuration) -> {
+            resolved.add(configuration);
+            return type == String.class ? "service" : null;
+        }, context, mock(Monitor.class));
+    }
+
+    private static class BaseFixture {
+        @Inject
+        protected String service;
+    }
+
+    private static class Fixture extends BaseFixture {
+        @ConfigParam
+        private String value;
+        @ConfigParam
+        private String optional;
+        private String ignored;
+    }
+
+    private static class RequiredFixture {
+        @ConfigParam(required = true)
+        private String required;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void verifyPercentilesWithinRelativeError() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(10_000);
+        assertThat(snapshot.min()).isEqualTo(1000);
+        assertThat(snapshot.max()).isEqualTo(10_000_000);
+        assertThat(snapshot.mean()).isCloseTo(5_000_500, within(1d));
+        assertThat((double) snapshot.p50()).isCloseTo(5_000_000, within(5_000_000 / 32d));
+        assertThat((double) snapshot.p90()).isCloseTo(9_000_000, within(9_000_000 / 32d));
+        assertThat((double) snapshot.p99()).isCloseTo(9_900_000, within(9_900_000 / 32d));
+    }
+
+    @Test
+    void verifyBucketsCoverValueRange() {
+        for (var value : new long[]{0, 1, 63, 64, 65, 1000, 1L << 40, Long.MAX_VALUE}) {
+            var bucket = LatencyHistogram.bucket(value);
+            assertThat(LatencyHistogram.highestValue(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValue(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void verifyEmptySnapshot() {
+        assertThat(new LatencyHistogram().snapshot().count()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteTableTest {
+
+    private RouteTable<String> table;
+
+    @Test
+    void verifyLiteralLookup() {
+        table.register("/negotiations/request", "literal");
+
+        assertThat(table.lookup("/negotiations/request")).isEqualTo("literal");
+        assertThat(table.lookup("/negotiations/requests")).isNull();
+    }
+
+    @Test
+    void verifySegmentLookup() {
+        table.register("/negotiations/[^/]+/request", "request");
+        table.register("/negotiations/[^/]+/events", "events");
+
+        assertThat(table.lookup("/negotiations/123/request")).isEqualTo("request");
+        assertThat(table.lookup("/negotiations/123/events")).isEqualTo("events");
+        assertThat(table.lookup("/negotiations/123/456/request")).isNull();
+        assertThat(table.lookup("/negotiations/request")).isNull();
+    }
+
+    @Test
+    void verifyCrossSegmentExpressionLookup() {
+        table.register("/transfers/.*", "any");
+        table.register("/catalog(/request)?", "optional");
+
+        assertThat(table.lookup("/transfers/123/start")).isEqualTo("any");
+        assertThat(table.lookup("/catalog")).isEqualTo("optional");
+        assertThat(table.lookup("/catalog/request")).isEqualTo("optional");
+    }
+
+    @Test
+    void verifyEscapedSeparatorLookup() {
+        table.register("/foo\\/bar", "escaped");
+        table.register("/baz\\x2Fqux", "hex");
+        table.register("/quux\\u002F[^/]+", "unicode");
+
+        assertThat(table.lookup("/foo/bar")).isEqualTo("escaped");
+        assertThat(table.lookup("/baz/qux")).isEqualTo("hex");
+        assertThat(table.lookup("/quux/123")).isEqualTo("unicode");
+    }
+
+    @Test
+    void verifySeparatorClassLookup() {
+        table.register("/foo[/]bar", "class");
+        table.register("/bar[a-z/]+", "classWithSeparator");
+        table.register("/baz[!-0]qux", "range");
+        table.register("/qux[^\\x2F]+/end", "negatedEscape");
+
+        assertThat(table.lookup("/foo/bar")).isEqualTo("class");
+        assertThat(table.lookup("/barabc/def")).isEqualTo("classWithSeparator");
+        assertThat(table.lookup("/baz/qux")).isEqualTo("range");
+        assertThat(table.lookup("/quxabc/end")).isEqualTo("negatedEscape");
+        assertThat(table.lookup("/quxabc/def/end")).isNull();
+    }
+
+    @Test
+    void verifyDeregister() {
+        table.register("/foo/[^/]+/bar", "pattern");
+        table.register("/foo", "literal");
+
+        assertThat(table.deregister("/foo/[^/]+/bar")).isEqualTo("pattern");
+        assertThat(table.deregister("/foo/[^/]+/bar")).isNull();
+
+        assertThat(table.lookup("/foo/123/bar")).isNull();
+        assertThat(table.lookup("/foo")).isEqualTo("literal");
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @BeforeEach
+    void setUp() {
+        table = new RouteTable<>();
+    }
+}
@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.api.client.catalog;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * CatalogClient is an interface that defines methods for interacting with a catalog service.
@@ -38,4 +41,22 @@ public interface CatalogClient {
      * @return a map representing the dataset
      */
     Map<String, Object> getDataset(String datasetId, boolean expectError);
+
+    /**
+     * Retrieves the catalog without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getCatalogAsync(Map<String, Object> message) {
+        return supplyAsync(() -> getCatalog(message), Runnable::run);
+    }
+
+    /**
+     * Retrieves a specific dataset without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getDatasetAsync(String datasetId, boolean expectError) {
+        return supplyAsync(() -> getDataset(datasetId, expectError), Runnable::run);
+    }
 }
@@ -15,6 +15,8 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import java.util.Map;
@@ -54,16 +56,37 @@ public interface ConsumerNegotiationManager extends NegotiationManager {
     /**
      * Processes an offer received from the provider.
      */
-    Map<String, Object> handleOffer(Map<String, Object> offer);
+    default Map<String, Object> handleOffer(Map<String, Object> offer) {
+        return handleOffer(ProcessMessage.from(offer));
+    }
+
+    /**
+     * Processes an offer received from the provider.
+     */
+    Map<String, Object> handleOffer(ProcessMessage offer);
+
+    /**
+     * Processes an agreement received from the provider.
+     */
+    default void handleAgreement(Map<String, Object> agreement) {
+        handleAgreement(ProcessMessage.from(agreement));
+    }
 
     /**
      * Processes an agreement received from the provider.
      */
-    void handleAgreement(Map<String, Object> agreement);
+    void handleAgreement(ProcessMessage agreement);
+
+    /**
+     * Processes a finalize event received from the provider.
+     */
+    default void handleFinalized(Map<String, Object> event) {
+        handleFinalized(ContractNegotiationEventMessage.from(event));
+    }
 
     /**
      * Processes a finalize event received from the provider.
      */
-    void handleFinalized(Map<String, Object> event);
+    void handleFinalized(ContractNegotiationEventMessage event);
 
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -55,7 +56,14 @@ public interface NegotiationManager {
     /**
      * Processes a negotiation termination message received from the counter-party.
      */
-    Map<String, Object> handleTermination(Map<String, Object> terminatedMessage);
+    default Map<String, Object> handleTermination(Map<String, Object> terminatedMessage) {
+        return handleTermination(ProcessMessage.from(terminatedMessage));
+    }
+
+    /**
+     * Processes a negotiation termination message received from the counter-party.
+     */
+    Map<String, Object> handleTermination(ProcessMessage terminatedMessage);
 
     /**
      * Transitions the negotiation to {@link ContractNegotiation.State#TERMINATED}.
@@ -14,6 +14,8 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector.tp;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferRequestMessage;
+
 import java.util.Map;
 
 /**
@@ -26,6 +28,13 @@ public interface ProviderTransferProcessManager extends TransferProcessManager {
     /**
      * Handles a transfer request received from the consumer.
      */
-    Map<String, Object> handleTransferRequest(Map<String, Object> transferRequest, String counterPartyId);
+    default Map<String, Object> handleTransferRequest(Map<String, Object> transferRequest, String counterPartyId) {
+        return handleTransferRequest(TransferRequestMessage.from(transferRequest), counterPartyId);
+    }
+
+    /**
+     * Handles a transfer request received from the consumer.
+     */
+    Map<String, Object> handleTransferRequest(TransferRequestMessage transferRequest, String counterPartyId);
     
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector.tp;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferStartMessage;
 import org.eclipse.dataspacetck.dsp.system.api.service.Result;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
 import org.jetbrains.annotations.NotNull;
@@ -72,22 +74,50 @@ public interface TransferProcessManager {
     /**
      * Processes a transfer completion message received from the counter-party.
      */
-    Result<Map<String, Object>, Map<String, Object>> handleCompletion(Map<String, Object> completionMessage);
+    default Result<Map<String, Object>, Map<String, Object>> handleCompletion(Map<String, Object> completionMessage) {
+        return handleCompletion(ProcessMessage.from(completionMessage));
+    }
+
+    /**
+     * Processes a transfer completion message received from the counter-party.
+     */
+    Result<Map<String, Object>, Map<String, Object>> handleCompletion(ProcessMessage completionMessage);
+
+    /**
+     * Processes a transfer termination message received from the counter-party.
+     */
+    default Map<String, Object> handleTermination(Map<String, Object> terminatedMessage) {
+        return handleTermination(ProcessMessage.from(terminatedMessage));
+    }
 
     /**
      * Processes a transfer termination message received from the counter-party.
      */
-    Map<String, Object> handleTermination(Map<String, Object> terminatedMessage);
+    Map<String, Object> handleTermination(ProcessMessage terminatedMessage);
 
     /**
      * Processes a transfer suspension message received from the counter-party.
      */
-    Result<Map<String, Object>, Map<String, Object>> handleSuspension(Map<String, Object> suspensionMessage);
+    default Result<Map<String, Object>, Map<String, Object>> handleSuspension(Map<String, Object> suspensionMessage) {
+        return handleSuspension(ProcessMessage.from(suspensionMessage));
+    }
+
+    /**
+     * Processes a transfer suspension message received from the counter-party.
+     */
+    Result<Map<String, Object>, Map<String, Object>> handleSuspension(ProcessMessage suspensionMessage);
 
     /**
      * Processes a transfer request received from the counter-party.
      */
-    Result<Map<String, Object>, Map<String, Object>> handleStart(Map<String, Object> startMessage, Predicate<TransferProcess.DataAddress> dataAddressPredicate);
+    default Result<Map<String, Object>, Map<String, Object>> handleStart(Map<String, Object> startMessage, Predicate<TransferProcess.DataAddress> dataAddressPredicate) {
+        return handleStart(TransferStartMessage.from(startMessage), dataAddressPredicate);
+    }
+
+    /**
+     * Processes a transfer start message received from the counter-party.
+     */
+    Result<Map<String, Object>, Map<String, Object>> handleStart(TransferStartMessage startMessage, Predicate<TransferProcess.DataAddress> dataAddressPredicate);
 
     /**
      * Processes a transfer request received from the counter-party.
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration of the shared HTTP client used to send DSP messages.
+ */
+public class HttpClientConfiguration {
+    private int maxIdleConnections = 10;
+    private int maxRequestsPerHost = 10;
+    private Duration keepAlive = Duration.ofMinutes(5);
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration callTimeout = Duration.ZERO;
+    private boolean http2 = true;
+    private String authorizationHeader;
+
+    /**
+     * Returns the number of idle connections kept in the pool.
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Returns the number of requests executed concurrently against a single host.
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Returns how long an idle connection is kept in the pool.
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Returns the timeout of a complete call, {@link Duration#ZERO} for none.
+     */
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Returns true if HTTP/2 may be negotiated, otherwise only HTTP/1.1 is used.
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Returns the authorization header sent with every request or null.
+     */
+    @Nullable
+    public String getAuthorizationHeader() {
+        return authorizationHeader;
+    }
+
+    /**
+     * Returns a builder initialized with the values of this configuration.
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .maxIdleConnections(maxIdleConnections)
+                .maxRequestsPerHost(maxRequestsPerHost)
+                .keepAlive(keepAlive)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .callTimeout(callTimeout)
+                .http2(http2)
+                .authorizationHeader(authorizationHeader);
+    }
+
+    private HttpClientConfiguration() {
+    }
+
+    public static class Builder {
+        private final HttpClientConfiguration configuration;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            configuration.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            configuration.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        public Builder keepAlive(Duration keepAlive) {
+            configuration.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            configuration.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder readTimeout(Duration readTimeout) {
+            configuration.readTimeout = readTimeout;
+            return this;
+        }
+
+        public Builder callTimeout(Duration callTimeout) {
+            configuration.callTimeout = callTimeout;
+            return this;
+        }
+
+        public Builder http2(boolean http2) {
+            configuration.http2 = http2;
+            return this;
+        }
+
+        public Builder authorizationHeader(@Nullable String authorizationHeader) {
+            configuration.authorizationHeader = authorizationHeader;
+            return this;
+        }
+
+        public HttpClientConfiguration build() {
+            requireNonNull(configuration.keepAlive, "keepAlive");
+            requireNonNull(configuration.connectTimeout, "connectTimeout");
+            requireNonNull(configuration.readTimeout, "readTimeout");
+            requireNonNull(configuration.callTimeout, "callTimeout");
+            return configuration;
+        }
+
+        private Builder() {
+            configuration = new HttpClientConfiguration();
+        }
+    }
+}
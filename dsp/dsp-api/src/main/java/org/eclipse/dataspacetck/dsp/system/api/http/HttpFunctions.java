@@ -15,34 +15,99 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.http;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serializePlainJson;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.endpointName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricsEnabled;
 
 /**
  * Utility methods for HTTP requests.
+ * <p>
+ * Requests are sent through a shared client so that connections, TLS sessions and dispatcher threads are reused across
+ * messages. The client is created by {@link #initialize(HttpClientConfiguration)} and released by {@link #close()}. A
+ * closed client is recreated with the same configuration when it is used again; using the client before it has been
+ * initialized is an error, so requests are never sent without the configured authorization and timeouts.
  */
 public class HttpFunctions {
-    private static Interceptor authorizationInterceptor = chain -> chain.proceed(chain.request());
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final int MAX_RETRIES = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 200;
+    private static final long READY_INITIAL_BACKOFF_MILLIS = 5;
+    private static final long READY_MAX_BACKOFF_MILLIS = 100;
+    private static final long READY_TIMEOUT_MILLIS = 10_000;
+    private static final String ROUND_TRIP_METRIC = "http";
+    private static final String FAILED_METRIC = "http.failed";
+    private static final String REQUEST_SIZE_METRIC = "http.request.bytes";
+    private static volatile OkHttpClient httpClient;
+    private static volatile HttpClientConfiguration configuration;
 
     private HttpFunctions() {
     }
 
-    public static void registerAuthorizationInterceptor(String authorizationHeader) {
-        authorizationInterceptor = chain -> {
-            var request = chain.request();
-            var authenticatedRequest = request.newBuilder()
-                    .header("Authorization", authorizationHeader).build();
-            return chain.proceed(authenticatedRequest);
-        };
+    /**
+     * Creates the shared client, replacing and closing a previously created one.
+     */
+    public static synchronized void initialize(HttpClientConfiguration configuration) {
+        var previous = httpClient;
+        HttpFunctions.configuration = configuration;
+        httpClient = createClient(configuration);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /**
+     * Sends the authorization header with every request, keeping the rest of the current configuration.
+     *
+     * @deprecated use {@link HttpClientConfiguration.Builder#authorizationHeader(String)} with
+     *         {@link #initialize(HttpClientConfiguration)}
+     */
+    @Deprecated(since = "1.0.0")
+    public static synchronized void registerAuthorizationInterceptor(String authorizationHeader) {
+        var current = configuration != null ? configuration : HttpClientConfiguration.Builder.newInstance().build();
+        initialize(current.toBuilder().authorizationHeader(authorizationHeader).build());
+    }
+
+    /**
+     * Closes pooled connections and stops the dispatcher threads of the shared client. The configuration is kept, so
+     * the client is recreated with it if it is used again.
+     */
+    public static synchronized void close() {
+        if (httpClient != null) {
+            release(httpClient);
+            httpClient = null;
+        }
+    }
+
+    /**
+     * Closes the shared client and discards its configuration.
+     */
+    static synchronized void reset() {
+        close();
+        configuration = null;
     }
 
     public static Response postJson(String url, Object message) {
@@ -54,47 +119,84 @@ public class HttpFunctions {
     }
 
     public static Response postJson(String url, Object message, boolean expectError, boolean plain) {
-        var serialized = plain ? serializePlainJson(message) : serialize(message);
-        var requestBody = RequestBody.create(serialized, MediaType.get("application/json"));
-        var httpRequest = new Request.Builder()
-                .url(url)
-                .post(requestBody)
-                .build();
-
-        var httpClient = new OkHttpClient.Builder().addInterceptor(authorizationInterceptor).build();
-        int maxRetries = 3;
+        var httpRequest = createPostRequest(url, message, plain);
+        var httpClient = getClient();
         int attempt = 0;
-        long backoff = 200; // initial backoff in ms
+        long backoff = INITIAL_BACKOFF_MILLIS;
 
         while (true) {
             try {
                 var response = httpClient.newCall(httpRequest).execute();
-                if (!expectError && response.code() != 404 && response.code() >= 400 && response.code() < 500 && attempt < maxRetries - 1) {
+                if (shouldRetry(response, expectError, attempt)) {
                     attempt++;
                     response.close();
-                    try {
-                        Thread.sleep(backoff);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(ie);
-                    }
+                    sleep(backoff);
                     backoff *= 2;
                     continue;
                 }
-                if (404 == response.code()) {
-                    throw new AssertionError("Unexpected 404 received for request: " + url);
-                } else if (!response.isSuccessful()) {
-                    if (response.code() < 400 || response.code() >= 500 || !expectError) {
-                        throw new AssertionError("Unexpected response code: " + response.code());
-                    }
-                } else if (expectError) {
-                    throw new AssertionError("Expected to throw an error on request: " + url);
+                return verified(response, () -> verifyPostResponse(url, response, expectError));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Waits until the receiver has registered a handler for the url. The receiver is probed with OPTIONS requests, which
+     * a TCK callback endpoint answers with 404 until a handler matching the path is registered, at an interval growing
+     * from 5 ms to 100 ms for up to 10 seconds. Callers opt in before posting to a TCK endpoint whose handlers are
+     * registered as its pipeline advances, so the message itself is sent once.
+     *
+     * @throws AssertionError if no handler is registered before the timeout elapses
+     */
+    public static void awaitHandler(String url) {
+        var httpRequest = new Request.Builder()
+                .url(url)
+                .method("OPTIONS", null)
+                .build();
+        var httpClient = getClient();
+        var deadline = nanoTime() + MILLISECONDS.toNanos(READY_TIMEOUT_MILLIS);
+        long backoff = READY_INITIAL_BACKOFF_MILLIS;
+
+        while (true) {
+            try (var response = httpClient.newCall(httpRequest).execute()) {
+                if (response.code() != 404) {
+                    return;
                 }
-                return response;
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
+            if (nanoTime() >= deadline) {
+                throw new AssertionError("Timeout waiting for a handler to be registered for: " + url);
+            }
+            sleep(backoff);
+            backoff = min(backoff * 2, READY_MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message) {
+        return postJsonAsync(url, message, false);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError) {
+        return postJsonAsync(url, message, expectError, false);
+    }
+
+    /**
+     * Sends the message without blocking the calling thread. Retries are scheduled with the same backoff as
+     * {@link #postJson(String, Object, boolean, boolean)} instead of sleeping. The returned future completes with the
+     * response, which must be closed by the caller, or exceptionally with the assertion or I/O error, or with the error
+     * creating the request.
+     */
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError, boolean plain) {
+        var future = new CompletableFuture<Response>();
+        try {
+            var httpRequest = createPostRequest(url, message, plain);
+            enqueuePost(getClient(), httpRequest, expectError, 0, INITIAL_BACKOFF_MILLIS, future);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
         }
+        return future;
     }
 
     public static Response getJson(String url) {
@@ -102,22 +204,228 @@ public class HttpFunctions {
     }
 
     public static Response getJson(String url, boolean expectError) {
-        var httpRequest = new Request.Builder()
+        var httpRequest = createGetRequest(url);
+        var httpClient = getClient();
+        try {
+            var response = httpClient.newCall(httpRequest).execute();
+            return verified(response, () -> verifyGetResponse(url, response, expectError));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static CompletableFuture<Response> getJsonAsync(String url) {
+        return getJsonAsync(url, false);
+    }
+
+    /**
+     * Sends the request without blocking the calling thread. The returned future completes with the response, which
+     * must be closed by the caller, or exceptionally with the assertion or I/O error. As with
+     * {@link #postJsonAsync(String, Object, boolean, boolean)}, errors creating the request, such as an invalid url, are
+     * also reported through the future.
+     */
+    public static CompletableFuture<Response> getJsonAsync(String url, boolean expectError) {
+        var future = new CompletableFuture<Response>();
+        try {
+            enqueueGet(getClient(), createGetRequest(url), expectError, future);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static void enqueueGet(OkHttpClient httpClient, Request httpRequest, boolean expectError, CompletableFuture<Response> future) {
+        httpClient.newCall(httpRequest).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                var url = httpRequest.url().toString();
+                complete(future, response, () -> verifyGetResponse(url, response, expectError));
+            }
+        });
+    }
+
+    private static void enqueuePost(OkHttpClient httpClient,
+                                    Request httpRequest,
+                                    boolean expectError,
+                                    int attempt,
+                                    long backoff,
+                                    CompletableFuture<Response> future) {
+        httpClient.newCall(httpRequest).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                if (shouldRetry(response, expectError, attempt)) {
+                    response.close();
+                    delayedExecutor(backoff, MILLISECONDS)
+                            .execute(() -> enqueuePost(httpClient, httpRequest, expectError, attempt + 1, backoff * 2, future));
+                    return;
+                }
+                var url = httpRequest.url().toString();
+                complete(future, response, () -> verifyPostResponse(url, response, expectError));
+            }
+        });
+    }
+
+    private static void complete(CompletableFuture<Response> future, Response response, Runnable verification) {
+        try {
+            future.complete(verified(response, verification));
+        } catch (AssertionError | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Runs the verification and returns the response, closing it if the verification fails so the connection is
+     * returned to the pool.
+     */
+    private static Response verified(Response response, Runnable verification) {
+        try {
+            verification.run();
+            return response;
+        } catch (AssertionError | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the request for the message. A byte array is sent as is, for example a filled message template.
+     */
+    private static Request createPostRequest(String url, Object message, boolean plain) {
+        RequestBody body;
+        if (message instanceof byte[] serialized) {
+            body = RequestBody.create(serialized, JSON);
+        } else {
+            body = RequestBody.create(plain ? serializePlainJson(message) : serialize(message), JSON);
+        }
+        return new Request.Builder()
+                .url(url)
+                .post(body)
+                .build();
+    }
+
+    private static Request createGetRequest(String url) {
+        return new Request.Builder()
                 .url(url)
                 .get()
                 .build();
+    }
 
-        var httpClient = new OkHttpClient.Builder().addInterceptor(authorizationInterceptor).build();
-        try {
-            var response = httpClient.newCall(httpRequest).execute();
-            if (404 == response.code() && !expectError) {
-                throw new AssertionError("Unexpected 404 received for request: " + url);
-            } else if (!response.isSuccessful() && !expectError) {
+    /**
+     * Client errors other than 404 are retried since the connector may not have processed a preceding message yet.
+     */
+    private static boolean shouldRetry(Response response, boolean expectError, int attempt) {
+        var code = response.code();
+        return !expectError && code != 404 && code >= 400 && code < 500 && attempt < MAX_RETRIES - 1;
+    }
+
+    private static void verifyPostResponse(String url, Response response, boolean expectError) {
+        if (404 == response.code()) {
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful()) {
+            if (response.code() < 400 || response.code() >= 500 || !expectError) {
                 throw new AssertionError("Unexpected response code: " + response.code());
             }
+        } else if (expectError) {
+            throw new AssertionError("Expected to throw an error on request: " + url);
+        }
+    }
+
+    private static void verifyGetResponse(String url, Response response, boolean expectError) {
+        if (404 == response.code() && !expectError) {
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful() && !expectError) {
+            throw new AssertionError("Unexpected response code: " + response.code());
+        }
+    }
+
+    /**
+     * Records the round-trip time of each attempt and the request body size per method and endpoint, and counts attempts
+     * that fail with an error response or I/O error. Nothing is recorded while no metrics are installed.
+     */
+    private static Response recordRoundTrip(Interceptor.Chain chain) throws IOException {
+        var request = chain.request();
+        if (!metricsEnabled()) {
+            return chain.proceed(request);
+        }
+        var name = request.method() + " " + endpointName(request.url().encodedPath());
+        var body = request.body();
+        if (body != null && body.contentLength() >= 0) {
+            metrics().record(metricName(REQUEST_SIZE_METRIC, name), body.contentLength());
+        }
+        var start = nanoTime();
+        try {
+            var response = chain.proceed(request);
+            if (!response.isSuccessful()) {
+                metrics().increment(metricName(FAILED_METRIC, name));
+            }
             return response;
         } catch (IOException e) {
+            metrics().increment(metricName(FAILED_METRIC, name));
+            throw e;
+        } finally {
+            metrics().recordSince(metricName(ROUND_TRIP_METRIC, name), start);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
+
+    private static OkHttpClient getClient() {
+        var client = httpClient;
+        if (client != null) {
+            return client;
+        }
+        synchronized (HttpFunctions.class) {
+            if (httpClient == null) {
+                if (configuration == null) {
+                    throw new IllegalStateException("HTTP client not initialized, call HttpFunctions.initialize() first");
+                }
+                httpClient = createClient(configuration);
+            }
+            return httpClient;
+        }
+    }
+
+    private static OkHttpClient createClient(HttpClientConfiguration configuration) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        var builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAlive().toMillis(), MILLISECONDS))
+                .connectTimeout(configuration.getConnectTimeout())
+                .readTimeout(configuration.getReadTimeout())
+                .callTimeout(configuration.getCallTimeout());
+        if (!configuration.isHttp2()) {
+            builder.protocols(List.of(Protocol.HTTP_1_1));
+        }
+        builder.addInterceptor(HttpFunctions::recordRoundTrip);
+        var authorizationHeader = configuration.getAuthorizationHeader();
+        if (authorizationHeader != null) {
+            builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                    .header("Authorization", authorizationHeader)
+                    .build()));
+        }
+        return builder.build();
+    }
+
+    private static void release(OkHttpClient client) {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.idValue;
+
+/**
+ * An expanded contract negotiation event message.
+ *
+ * @param providerPid the provider process id or null if not set
+ * @param consumerPid the consumer process id or null if not set
+ * @param eventType   the expanded event type
+ */
+public record ContractNegotiationEventMessage(@Nullable String providerPid, @Nullable String consumerPid, String eventType) {
+
+    /**
+     * Binds the expanded message in a single pass over its properties. Missing process ids are not rejected here;
+     * handlers only look up the negotiation by their own id.
+     */
+    public static ContractNegotiationEventMessage from(Map<String, Object> message) {
+        String providerPid = null;
+        String consumerPid = null;
+        String eventType = null;
+        for (var entry : message.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_EVENT_TYPE_EXPANDED -> eventType = idValue(entry.getKey(), entry.getValue());
+                default -> {
+                }
+            }
+        }
+        return new ContractNegotiationEventMessage(providerPid,
+                consumerPid,
+                requireNonNull(eventType, "No value for: " + DSPACE_PROPERTY_EVENT_TYPE_EXPANDED));
+    }
+}
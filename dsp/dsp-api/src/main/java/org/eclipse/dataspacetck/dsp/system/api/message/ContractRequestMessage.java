@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_OFFER_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.compactStringProperty;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.idValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.mapValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringValue;
+
+/**
+ * An expanded contract request message. An initial request has no provider process id; a counter-offer has one.
+ *
+ * @param providerPid     the provider process id or null if the message is an initial request
+ * @param consumerPid     the consumer process id
+ * @param callbackAddress the callback address or null if not set
+ * @param offerId         the offer id or null if not set
+ * @param offer           the expanded offer
+ */
+public record ContractRequestMessage(@Nullable String providerPid,
+                                     String consumerPid,
+                                     @Nullable String callbackAddress,
+                                     @Nullable String offerId,
+                                     Map<String, Object> offer) {
+
+    /**
+     * Binds the expanded message in a single pass over its properties.
+     */
+    public static ContractRequestMessage from(Map<String, Object> message) {
+        String providerPid = null;
+        String consumerPid = null;
+        String callbackAddress = null;
+        Map<String, Object> offer = null;
+        for (var entry : message.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED -> callbackAddress = stringValue(entry.getKey(), VALUE, entry.getValue());
+                case DSPACE_PROPERTY_OFFER_EXPANDED -> offer = mapValue(entry.getKey(), entry.getValue());
+                default -> {
+                }
+            }
+        }
+        if (offer == null) {
+            throw new AssertionError(format("Property '%s' was not found", DSPACE_PROPERTY_OFFER_EXPANDED));
+        }
+        return new ContractRequestMessage(providerPid,
+                requireNonNull(consumerPid, "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED),
+                callbackAddress,
+                offer.get(ID) != null ? compactStringProperty(ID, offer) : null,
+                offer);
+    }
+
+    /**
+     * Returns true if the message is a counter-offer made on an existing negotiation.
+     */
+    public boolean isCounterOffer() {
+        return providerPid != null;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.readObject;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.useSymbols;
+
+/**
+ * A symbol table of the IRIs defined by the DSP contexts, which cover the DSP, DCAT, ODRL and Dublin Core terms used in
+ * messages.
+ * <p>
+ * Once installed, expanded documents use the interned instance of each known IRI for property names and for
+ * {@code @id} and {@code @type} values. These are the same instances as the constants in {@link DspConstants} and
+ * {@link DcatConstants}, so lookups with the constants compare by identity and use the cached hash, and stored offers
+ * and agreements do not retain a copy of each IRI.
+ */
+public class IriSymbols {
+    private static final List<String> CONTEXTS = List.of("dsp-2025-1.jsonld", "dsp-2025-1-odrl-profile.jsonld");
+    private static final Map<String, String> SYMBOLS = loadSymbols();
+
+    private IriSymbols() {
+    }
+
+    /**
+     * Installs the table for documents expanded by the message serializer.
+     */
+    public static void install() {
+        useSymbols(IriSymbols::intern);
+    }
+
+    /**
+     * Returns the interned instance of the IRI, or the value itself if it is not a known IRI.
+     */
+    public static String intern(String value) {
+        var symbol = SYMBOLS.get(value);
+        return symbol == null ? value : symbol;
+    }
+
+    /**
+     * Returns the number of known IRIs.
+     */
+    public static int size() {
+        return SYMBOLS.size();
+    }
+
+    private static Map<String, String> loadSymbols() {
+        var prefixes = new HashMap<String, String>();
+        var iris = new HashMap<String, String>();
+        var contexts = CONTEXTS.stream().map(IriSymbols::loadContext).toList();
+        contexts.forEach(context -> collectPrefixes(context, prefixes));
+        contexts.forEach(context -> collectIris(context, prefixes, iris));
+        return Map.copyOf(iris);
+    }
+
+    private static JsonObject loadContext(String resource) {
+        try (var stream = IriSymbols.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("Context not found: " + resource);
+            }
+            return readObject(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void collectPrefixes(JsonValue value, Map<String, String> prefixes) {
+        if (value instanceof JsonObject object) {
+            object.forEach((key, entry) -> {
+                if (entry instanceof JsonString string && isPrefix(key, string.getString())) {
+                    prefixes.put(key, string.getString());
+                } else {
+                    collectPrefixes(entry, prefixes);
+                }
+            });
+        }
+    }
+
+    private static void collectIris(JsonValue value, Map<String, String> prefixes, Map<String, String> iris) {
+        if (value instanceof JsonObject object) {
+            object.values().forEach(entry -> collectIris(entry, prefixes, iris));
+        } else if (value instanceof JsonArray array) {
+            array.forEach(entry -> collectIris(entry, prefixes, iris));
+        } else if (value instanceof JsonString string) {
+            var iri = expand(string.getString(), prefixes);
+            if (iri != null) {
+                // String.intern() returns the instance shared with compile-time constants
+                var symbol = iri.intern();
+                iris.put(symbol, symbol);
+            }
+        }
+    }
+
+    private static String expand(String term, Map<String, String> prefixes) {
+        if (term.startsWith("http://") || term.startsWith("https://")) {
+            return term;
+        }
+        var separator = term.indexOf(':');
+        if (separator <= 0) {
+            return null;
+        }
+        var namespace = prefixes.get(term.substring(0, separator));
+        return namespace == null ? null : namespace + term.substring(separator + 1);
+    }
+
+    private static boolean isPrefix(String key, String value) {
+        return !key.startsWith("@") && key.indexOf(':') < 0 && (value.endsWith("/") || value.endsWith("#"));
+    }
+}
@@ -33,10 +33,20 @@ public class JsonLdFunctions {
 
     public static Map<String, Object> mapProperty(String key, Map<String, Object> map, boolean optional) {
         var untypedValue = map.get(key);
+        if (untypedValue == null && optional) {
+            return null;
+        }
+        return mapValue(key, untypedValue);
+    }
+
+    /**
+     * Returns the map contained in the expanded value of the property.
+     *
+     * @param key          the property name used in error messages
+     * @param untypedValue the expanded value of the property
+     */
+    public static Map<String, Object> mapValue(String key, Object untypedValue) {
         if (untypedValue == null) {
-            if (optional) {
-                return null;
-            }
             throw new AssertionError(format("Property '%s' was not found", key));
         }
         //noinspection rawtypes
@@ -69,7 +79,30 @@ public class JsonLdFunctions {
     }
 
     public static String stringProperty(String key, String valKey, Map<String, Object> map) {
-        var untypedValue = requireNonNull(map.get(key), "No value for: " + key);
+        return stringValue(key, valKey, map.get(key));
+    }
+
+    /**
+     * Returns the {@code @id} of the expanded value of the property.
+     *
+     * @param key          the property name used in error messages
+     * @param untypedValue the expanded value of the property
+     */
+    public static String idValue(String key, Object untypedValue) {
+        return stringValue(key, ID, untypedValue);
+    }
+
+    /**
+     * Returns the attribute of the expanded value of the property.
+     *
+     * @param key          the property name used in error messages
+     * @param valKey       the attribute, {@code @id} or {@code @value}
+     * @param untypedValue the expanded value of the property
+     */
+    public static String stringValue(String key, String valKey, Object untypedValue) {
+        if (untypedValue == null) {
+            throw new NullPointerException("No value for: " + key);
+        }
         //noinspection rawtypes
         if (untypedValue instanceof List valueList) {
             if (valueList.isEmpty()) {
@@ -79,7 +112,10 @@ public class JsonLdFunctions {
             var valueContainer = valueList.get(0);
             if (valueContainer instanceof Map) {
                 @SuppressWarnings("rawtypes")
-                var value = requireNonNull(((Map) valueContainer).get(valKey), format("No %s attribute for property: %s", valKey, key));
+                var value = ((Map) valueContainer).get(valKey);
+                if (value == null) {
+                    throw new NullPointerException(format("No %s attribute for property: %s", valKey, key));
+                }
                 return value.toString();
             }
         }
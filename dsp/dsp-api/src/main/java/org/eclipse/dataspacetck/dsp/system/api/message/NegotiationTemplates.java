@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.eclipse.dataspacetck.core.api.message.MessageTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.compile;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.slot;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_AGREEMENT;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_TIMESTAMP;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createEvent;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.fill;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.id;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.withId;
+
+/**
+ * Serializes the contract negotiation messages created by {@link NegotiationFunctions} from templates compacted once
+ * when the class is loaded. Messages with optional content that is not covered by a template, such as termination
+ * reasons, are serialized from their maps.
+ */
+public class NegotiationTemplates {
+    static final MessageTemplate CONTRACT_REQUEST = compile(
+            withId(createContractRequest(slot("consumerPid"), slot("offerId"), slot("targetId"), slot("callbackAddress"))),
+            "id", "consumerPid", "offerId", "targetId", "callbackAddress");
+    static final MessageTemplate PROVIDER_CONTRACT_REQUEST = compile(
+            withId(createContractRequest(slot("consumerPid"), slot("providerPid"), slot("offerId"), slot("targetId"), null)),
+            "id", "consumerPid", "providerPid", "offerId", "targetId");
+    static final MessageTemplate OFFER = compile(
+            withId(createOffer(slot("providerPid"), slot("consumerPid"), slot("offerId"), slot("assigner"), slot("assignee"), slot("targetId"))),
+            "id", "providerPid", "consumerPid", "offerId", "assigner", "assignee", "targetId");
+    static final MessageTemplate AGREEMENT = compile(
+            agreementTemplate(),
+            "id", "providerPid", "consumerPid", "agreementId", "assigner", "assignee", "targetId", "timestamp");
+    static final MessageTemplate EVENT = compile(
+            withId(createEvent(slot("providerPid"), slot("consumerPid"), slot("eventType"))),
+            "id", "providerPid", "consumerPid", "eventType");
+    static final MessageTemplate VERIFICATION = compile(
+            withId(createVerification(slot("providerPid"), slot("consumerPid"))),
+            "id", "providerPid", "consumerPid");
+    static final MessageTemplate TERMINATION = compile(
+            withId(createTermination(slot("providerPid"), slot("consumerPid"), slot("code"))),
+            "id", "providerPid", "consumerPid", "code");
+
+    private NegotiationTemplates() {
+    }
+
+    public static byte[] serializeContractRequest(String consumerPid, String offerId, String targetId, String callbackAddress) {
+        return serializeContractRequest(consumerPid, null, offerId, targetId, callbackAddress);
+    }
+
+    public static byte[] serializeContractRequest(String consumerPid, String providerPid, String offerId, String targetId, String callbackAddress) {
+        if (providerPid == null && callbackAddress != null) {
+            return fill(CONTRACT_REQUEST,
+                    () -> createContractRequest(consumerPid, null, offerId, targetId, callbackAddress),
+                    id(), consumerPid, offerId, targetId, callbackAddress);
+        } else if (providerPid != null && callbackAddress == null) {
+            return fill(PROVIDER_CONTRACT_REQUEST,
+                    () -> createContractRequest(consumerPid, providerPid, offerId, targetId, null),
+                    id(), consumerPid, providerPid, offerId, targetId);
+        }
+        return fill(null, () -> createContractRequest(consumerPid, providerPid, offerId, targetId, callbackAddress));
+    }
+
+    public static byte[] serializeOffer(String providerId, String consumerId, String offerId, String assigner, String assignee, String targetId) {
+        return fill(OFFER,
+                () -> createOffer(providerId, consumerId, offerId, assigner, assignee, targetId),
+                id(), providerId, consumerId, offerId, assigner, assignee, targetId);
+    }
+
+    public static byte[] serializeAgreement(String providerId,
+                                            String consumerId,
+                                            String agreementId,
+                                            String assigner,
+                                            String assignee,
+                                            String targetId,
+                                            String callbackAddress) {
+        return fill(AGREEMENT,
+                () -> createAgreement(providerId, consumerId, agreementId, assigner, assignee, targetId, callbackAddress),
+                id(), providerId, consumerId, agreementId, assigner, assignee, targetId, ZonedDateTime.now().format(ISO_INSTANT));
+    }
+
+    public static byte[] serializeAcceptedEvent(String processId, String consumerId) {
+        return serializeEvent(processId, consumerId, "ACCEPTED");
+    }
+
+    public static byte[] serializeFinalizedEvent(String processId, String consumerId) {
+        return serializeEvent(processId, consumerId, "FINALIZED");
+    }
+
+    public static byte[] serializeEvent(String providerId, String consumerId, String eventType) {
+        return fill(EVENT,
+                () -> createEvent(providerId, consumerId, eventType),
+                id(), providerId, consumerId, eventType);
+    }
+
+    public static byte[] serializeVerification(String providerId, String consumerId) {
+        return fill(VERIFICATION,
+                () -> createVerification(providerId, consumerId),
+                id(), providerId, consumerId);
+    }
+
+    public static byte[] serializeTermination(String providerId, String consumerId, String code, String... reasons) {
+        return fill(reasons == null || reasons.length == 0 ? TERMINATION : null,
+                () -> createTermination(providerId, consumerId, code, reasons),
+                id(), providerId, consumerId, code);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> agreementTemplate() {
+        // the DSP context does not define a callback address for agreements, so compaction drops it from the template
+        var message = withId(createAgreement(slot("providerPid"), slot("consumerPid"), slot("agreementId"),
+                slot("assigner"), slot("assignee"), slot("targetId"), slot("callbackAddress")));
+        ((Map<String, Object>) message.get(DSPACE_PROPERTY_AGREEMENT)).put(DSPACE_PROPERTY_TIMESTAMP, slot("timestamp"));
+        return message;
+    }
+}
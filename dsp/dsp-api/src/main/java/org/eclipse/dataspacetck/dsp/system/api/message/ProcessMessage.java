@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.idValue;
+
+/**
+ * An expanded contract negotiation or transfer process message addressed by its process ids, such as an offer, an
+ * agreement, a verification or a termination message.
+ *
+ * @param providerPid the provider process id or null if not set
+ * @param consumerPid the consumer process id or null if not set
+ * @param message     the expanded message
+ */
+public record ProcessMessage(@Nullable String providerPid, @Nullable String consumerPid, Map<String, Object> message) {
+
+    /**
+     * Binds the process ids of the expanded message in a single pass over its properties. A missing id is not
+     * rejected here; handlers only look up the process by their own id.
+     */
+    public static ProcessMessage from(Map<String, Object> message) {
+        String providerPid = null;
+        String consumerPid = null;
+        for (var entry : message.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = idValue(entry.getKey(), entry.getValue());
+                default -> {
+                }
+            }
+        }
+        return new ProcessMessage(providerPid, consumerPid, message);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.eclipse.dataspacetck.core.api.message.MessageTemplate;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.slot;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+
+/**
+ * Utility methods for serializing DSP messages from {@link MessageTemplate}s.
+ */
+public class TemplateFunctions {
+
+    private TemplateFunctions() {
+    }
+
+    /**
+     * Replaces the random message id with the {@code id} slot.
+     */
+    public static Map<String, Object> withId(Map<String, Object> message) {
+        message.put(ID, slot("id"));
+        return message;
+    }
+
+    /**
+     * Returns a new message id.
+     */
+    public static String id() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Fills the template with the values. If there is no template or a value is null, the message created by the
+     * fallback is serialized instead, since the shape of the message then differs from the template.
+     */
+    public static byte[] fill(@Nullable MessageTemplate template, Supplier<Map<String, Object>> fallback, String... values) {
+        if (template == null || hasNull(values)) {
+            return serialize(fallback.get()).getBytes(UTF_8);
+        }
+        return template.fill(values);
+    }
+
+    private static boolean hasNull(String... values) {
+        for (var value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -14,16 +14,20 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.message.catalog;
 
+import org.eclipse.dataspacetck.core.api.system.HandlerResponse;
 import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Catalog;
 import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Dataset;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.OutputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.createGenerator;
+import static org.eclipse.dataspacetck.core.api.message.JsonValueFunctions.write;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DcatConstants.DCAT_PROPERTY_ACCESS_SERVICE;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DcatConstants.DCAT_PROPERTY_DATASET;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DcatConstants.DCAT_PROPERTY_DISTRIBUTION;
@@ -118,6 +122,36 @@ public class CatalogFunctions {
         return message;
     }
 
+    /**
+     * Writes the catalog response to the stream dataset by dataset, so the memory used does not grow with the size of
+     * the catalog. The output uses the terms of the DSP context and expands to the same document as
+     * {@link #createCatalogResponse(Catalog)}. The stream is not closed.
+     */
+    public static void writeCatalogResponse(Catalog catalog, OutputStream stream) {
+        try (var generator = createGenerator(stream)) {
+            generator.writeStartObject();
+            generator.write(ID, UUID.randomUUID().toString());
+            generator.write(TYPE, "Catalog");
+            generator.writeKey(CONTEXT);
+            write(generator, createDspContext());
+            generator.write(DSPACE_PROPERTY_PARTICIPANT_ID, catalog.getParticipantId());
+            generator.writeStartArray(DCAT_PROPERTY_DATASET);
+            for (var dataset : catalog.getDatasets().values()) {
+                write(generator, fromDataset(dataset));
+            }
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+    }
+
+    /**
+     * Returns a response that streams the catalog with {@link #writeCatalogResponse(Catalog, OutputStream)} when it
+     * is sent.
+     */
+    public static HandlerResponse createStreamingCatalogResponse(Catalog catalog) {
+        return HandlerResponse.streaming(200, stream -> writeCatalogResponse(catalog, stream));
+    }
+
     public static Map<String, Object> createDatasetResponse(Dataset dataset) {
         var message = fromDataset(dataset);
         var context = createDspContext();
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message.tp;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.idValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringValue;
+
+/**
+ * An expanded transfer request message.
+ *
+ * @param consumerPid     the consumer process id
+ * @param callbackAddress the callback address
+ * @param message         the expanded message
+ */
+public record TransferRequestMessage(String consumerPid, String callbackAddress, Map<String, Object> message) {
+
+    /**
+     * Binds the expanded message in a single pass over its properties.
+     */
+    public static TransferRequestMessage from(Map<String, Object> message) {
+        String consumerPid = null;
+        String callbackAddress = null;
+        for (var entry : message.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED -> callbackAddress = stringValue(entry.getKey(), VALUE, entry.getValue());
+                default -> {
+                }
+            }
+        }
+        return new TransferRequestMessage(requireNonNull(consumerPid, "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED),
+                requireNonNull(callbackAddress, "No value for: " + DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED),
+                message);
+    }
+}
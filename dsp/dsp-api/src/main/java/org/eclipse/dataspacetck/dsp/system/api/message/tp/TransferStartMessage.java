@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message.tp;
+
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_DATA_ADDRESS_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTIES_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTY_NAME_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTY_VALUE_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_TYPE_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.idValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.mapValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
+import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringValue;
+
+/**
+ * An expanded transfer start message.
+ *
+ * @param providerPid the provider process id
+ * @param consumerPid the consumer process id
+ * @param dataAddress the data address or null if the message has none
+ */
+public record TransferStartMessage(String providerPid, String consumerPid, @Nullable DataAddress dataAddress) {
+
+    /**
+     * Binds the expanded message, including its data address, in a single pass over its properties.
+     */
+    public static TransferStartMessage from(Map<String, Object> message) {
+        String providerPid = null;
+        String consumerPid = null;
+        DataAddress dataAddress = null;
+        for (var entry : message.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_DATA_ADDRESS_EXPANDED -> dataAddress = toDataAddress(entry.getKey(), entry.getValue());
+                default -> {
+                }
+            }
+        }
+        return new TransferStartMessage(requireNonNull(providerPid, "No value for: " + DSPACE_PROPERTY_PROVIDER_PID_EXPANDED),
+                requireNonNull(consumerPid, "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED),
+                dataAddress);
+    }
+
+    @Nullable
+    private static DataAddress toDataAddress(String key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        String endpointType = null;
+        String endpoint = null;
+        Map<String, String> endpointProperties = Map.of();
+        for (var entry : mapValue(key, value).entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_ENDPOINT_TYPE_EXPANDED -> endpointType = idValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_ENDPOINT_EXPANDED -> endpoint = entry.getValue() == null ? null : stringValue(entry.getKey(), VALUE, entry.getValue());
+                case DSPACE_PROPERTY_ENDPOINT_PROPERTIES_EXPANDED -> endpointProperties = toEndpointProperties(entry.getValue());
+                default -> {
+                }
+            }
+        }
+        return new DataAddress(requireNonNull(endpointType, "No value for: " + DSPACE_PROPERTY_ENDPOINT_TYPE_EXPANDED), endpoint, endpointProperties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> toEndpointProperties(Object endpointProperties) {
+        if (!(endpointProperties instanceof List<?> list)) {
+            return Map.of();
+        }
+        var properties = new HashMap<String, String>();
+        for (var property : list) {
+            if (property instanceof Map<?, ?>) {
+                var map = (Map<String, Object>) property;
+                var name = stringProperty(DSPACE_PROPERTY_ENDPOINT_PROPERTY_NAME_EXPANDED, map);
+                var value = stringProperty(DSPACE_PROPERTY_ENDPOINT_PROPERTY_VALUE_EXPANDED, map);
+                properties.put(name, value);
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.tp;
+
+import org.eclipse.dataspacetck.core.api.message.MessageTemplate;
+
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.compile;
+import static org.eclipse.dataspacetck.core.api.message.MessageTemplate.slot;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.fill;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.id;
+import static org.eclipse.dataspacetck.dsp.system.api.message.TemplateFunctions.withId;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createCompletion;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createStartRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createSuspension;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTermination;
+
+/**
+ * Serializes the transfer process messages created by {@link TransferFunctions} from templates compacted once when the
+ * class is loaded. Messages with optional content that is not covered by a template, such as a data address or
+ * reasons, are serialized from their maps.
+ */
+public class TransferTemplates {
+    static final MessageTemplate START = compile(
+            withId(createStartRequest(slot("providerPid"), slot("consumerPid"), null)),
+            "id", "providerPid", "consumerPid");
+    static final MessageTemplate COMPLETION = compile(
+            withId(createCompletion(slot("providerPid"), slot("consumerPid"))),
+            "id", "providerPid", "consumerPid");
+    static final MessageTemplate TERMINATION = compile(
+            withId(createTermination(slot("providerPid"), slot("consumerPid"), slot("code"))),
+            "id", "providerPid", "consumerPid", "code");
+    static final MessageTemplate SUSPENSION = compile(
+            withId(createSuspension(slot("providerPid"), slot("consumerPid"), slot("code"))),
+            "id", "providerPid", "consumerPid", "code");
+
+    private TransferTemplates() {
+    }
+
+    public static byte[] serializeStartRequest(String providerId, String consumerId, Map<String, Object> dataAddress) {
+        return fill(dataAddress == null ? START : null,
+                () -> createStartRequest(providerId, consumerId, dataAddress),
+                id(), providerId, consumerId);
+    }
+
+    public static byte[] serializeCompletion(String providerId, String consumerId) {
+        return fill(COMPLETION,
+                () -> createCompletion(providerId, consumerId),
+                id(), providerId, consumerId);
+    }
+
+    public static byte[] serializeTermination(String providerPid, String consumerPid, String code, String... reasons) {
+        return fill(reasons == null || reasons.length == 0 ? TERMINATION : null,
+                () -> createTermination(providerPid, consumerPid, code, reasons),
+                id(), providerPid, consumerPid, code);
+    }
+
+    public static byte[] serializeSuspension(String providerId, String consumerId, String code, String... reasons) {
+        return fill(reasons == null || reasons.length == 0 ? SUSPENSION : null,
+                () -> createSuspension(providerId, consumerId, code, reasons),
+                id(), providerId, consumerId, code);
+    }
+}
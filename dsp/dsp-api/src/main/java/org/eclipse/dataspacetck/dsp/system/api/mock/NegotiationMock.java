@@ -45,4 +45,11 @@ public interface NegotiationMock {
      */
     void reset();
 
+    /**
+     * Releases the mock when the scope it belongs to is closed. Recorded actions are discarded.
+     */
+    default void close() {
+        reset();
+    }
+
 }
@@ -39,6 +39,13 @@ public interface TransferProcessMock {
      */
     void reset();
 
+    /**
+     * Releases the mock when the scope it belongs to is closed. Recorded actions are discarded.
+     */
+    default void close() {
+        reset();
+    }
+
     /**
      * An action to be executed by the mock.
      */
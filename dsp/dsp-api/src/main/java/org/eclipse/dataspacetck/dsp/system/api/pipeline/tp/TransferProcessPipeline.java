@@ -31,6 +31,10 @@ public interface TransferProcessPipeline<P extends TransferProcessPipeline<P>> e
      */
     P thenWaitForState(State state);
 
+    /**
+     * Waits until the callbacks received from the connector under test have been acknowledged, failing the stage if the
+     * wait time elapses. Prefer waiting on a state of the connector where one is observable.
+     */
     P thenPause();
 
     /**
@@ -17,16 +17,22 @@ package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.transitionNames;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
@@ -38,23 +44,21 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 /**
  * The contract negotiation entity.
  * <p>
- * This implementation is thread-safe.
+ * This implementation is thread-safe and lock-free. The mutable state is held in an immutable snapshot that is replaced
+ * with a compare-and-set, so reads never block. Listeners and work are invoked after the new snapshot is published.
  */
 public class ContractNegotiation {
-
+    private static final String[][] TRANSITION_METRICS = transitionNames("negotiation.transition", State.class);
     private static final Consumer<ContractNegotiation> NULL_WORK = n -> {
     };
-    private final List<BiConsumer<State, ContractNegotiation>> listeners = new ArrayList<>();
-    private final List<Map<String, Object>> offers = new ArrayList<>();
-    private final LockManager lockManager = new LockManager();
+    private final List<BiConsumer<State, ContractNegotiation>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ContractNegotiation>> correlationListeners = new ArrayList<>();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
     private String id;
-    private String correlationId;
     private String offerId;
     private String datasetId;
     private String counterPartyId;
     private String callbackAddress;
-    private State state = State.INITIALIZED;
-    private Map<String, Object> agreement;
     private NegotiationKind negotiationKind = NegotiationKind.Consumer;
 
     private ContractNegotiation() {
@@ -81,66 +85,67 @@ public class ContractNegotiation {
     }
 
     public String getCorrelationId() {
-        return lockManager.readLock(() -> correlationId);
+        return snapshot.get().correlationId();
     }
 
     public State getState() {
-        return lockManager.readLock(() -> state);
+        return snapshot.get().state();
     }
 
     public Map<String, Object> getLastOffer() {
-        return lockManager.readLock(() -> offers.isEmpty() ? null : offers.get(offers.size() - 1));
+        var offers = snapshot.get().offers();
+        return offers.isEmpty() ? null : offers.get(offers.size() - 1);
     }
 
     public String consumerPid() {
-        return negotiationKind.equals(NegotiationKind.Consumer) ? id : correlationId;
+        return negotiationKind.equals(NegotiationKind.Consumer) ? id : getCorrelationId();
     }
 
     public String providerPid() {
-        return negotiationKind.equals(NegotiationKind.Provider) ? id : correlationId;
+        return negotiationKind.equals(NegotiationKind.Provider) ? id : getCorrelationId();
     }
 
     public List<Map<String, Object>> getOffers() {
-        return lockManager.readLock(() -> new ArrayList<>(offers));
+        return new ArrayList<>(snapshot.get().offers());
     }
 
     public Map<String, Object> getAgreement() {
-        return lockManager.readLock(() -> agreement);
+        return snapshot.get().agreement();
+    }
+
+    /**
+     * Registers a listener invoked with the previous state when the negotiation transitions.
+     */
+    public void registerListener(BiConsumer<State, ContractNegotiation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     */
+    public void deregisterListener(BiConsumer<State, ContractNegotiation> listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * Sets the correlation id.
+     * Sets the correlation id and transitions to the new state.
      */
     public void setCorrelationId(String id, State state) {
-        lockManager.writeLock(() -> {
-            this.correlationId = id;
-            transition(state);
-            return null;
-        });
+        update(current -> current.withCorrelationId(id), state, NULL_WORK);
     }
 
     /**
-     * Stores the offer and executes the work while holding a write lock.
+     * Stores the offer, transitions to the new state and executes the work.
      */
     public void storeOffer(Map<String, Object> offer, State state, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
-            offers.add(offer);
-            transition(state);
-            return null;
-        });
-        work.accept(this);
+        update(current -> current.withOffer(offer), state, work);
     }
 
     /**
-     * Stores the agreement and executes the work while holding a write lock.
+     * Stores the agreement, transitions to {@link State#AGREED} and executes the work.
      */
     public void storeAgreement(Map<String, Object> agreement, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
-            this.agreement = agreement;
-            transition(AGREED);
-            return null;
-        });
-        work.accept(this);
+        update(current -> current.withAgreement(agreement), AGREED, work);
     }
 
     /**
@@ -151,53 +156,54 @@ public class ContractNegotiation {
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Transitions to the new state and executes the work once the transition is published.
      */
     public void transition(State newState, Consumer<ContractNegotiation> work) throws IllegalStateException {
-        lockManager.writeLock(() -> {
-            var oldState = state;
-            switch (state) {
-                case INITIALIZED -> {
-                    assertStates(newState, REQUESTED, OFFERED, TERMINATED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case REQUESTED -> {
-                    assertStates(newState, OFFERED, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case OFFERED -> {
-                    assertStates(newState, REQUESTED, OFFERED, ACCEPTED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case ACCEPTED -> {
-                    assertStates(newState, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case AGREED -> {
-                    assertStates(newState, VERIFIED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case VERIFIED -> {
-                    assertStates(newState, FINALIZED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case FINALIZED -> throw new IllegalStateException(FINALIZED + " is a final state");
-                case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
-                default -> throw new IllegalStateException("Unexpected value: " + state);
+        update(UnaryOperator.identity(), newState, work);
+    }
+
+    /**
+     * Applies the change and transitions to the new state in a single atomic step, retrying if another thread
+     * published a snapshot concurrently. Listeners and work are invoked once the new snapshot is visible.
+     */
+    private void update(UnaryOperator<Snapshot> change, State newState, Consumer<ContractNegotiation> work) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            next = change.apply(current);
+            verifyTransition(next, newState);
+            next = next.withState(newState);
+        } while (!snapshot.compareAndSet(current, next));
+        if (!Objects.equals(current.correlationId(), next.correlationId())) {
+            correlationListeners.forEach(l -> l.accept(this));
+        }
+        var oldState = current.state();
+        if (oldState != newState) {
+            metrics().increment(TRANSITION_METRICS[oldState.ordinal()][newState.ordinal()]);
+        }
+        listeners.forEach(l -> l.accept(oldState, this));
+        work.accept(this);
+    }
+
+    private void verifyTransition(Snapshot current, State newState) {
+        switch (current.state()) {
+            case INITIALIZED -> {
+                assertStates(current.state(), newState, REQUESTED, OFFERED, TERMINATED);
+                verifyCorrelationId(current.correlationId(), newState);
             }
-            work.accept(this);
-            return null;
-        });
+            case REQUESTED -> assertStates(current.state(), newState, OFFERED, AGREED, TERMINATED);
+            case OFFERED -> assertStates(current.state(), newState, REQUESTED, OFFERED, ACCEPTED, TERMINATED);
+            case ACCEPTED -> assertStates(current.state(), newState, AGREED, TERMINATED);
+            case AGREED -> assertStates(current.state(), newState, VERIFIED, TERMINATED);
+            case VERIFIED -> assertStates(current.state(), newState, FINALIZED, TERMINATED);
+            case FINALIZED -> throw new IllegalStateException(FINALIZED + " is a final state");
+            case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
+            default -> throw new IllegalStateException("Unexpected value: " + current.state());
+        }
     }
 
-    private void verifyCorrelationId(State newState) {
+    private static void verifyCorrelationId(String correlationId, State newState) {
         if (newState == REQUESTED || newState == OFFERED) {
             if (correlationId == null) {
                 throw new IllegalStateException("Correlation id not set");
@@ -205,14 +211,39 @@ public class ContractNegotiation {
         }
     }
 
-    private void assertStates(State toState, State... states) {
+    private static void assertStates(State fromState, State toState, State... states) {
         for (var state : states) {
             if (toState == state) {
                 return;
             }
         }
         var legalStates = Arrays.stream(states).map(Enum::toString).collect(Collectors.joining(", "));
-        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", this.state, toState, legalStates));
+        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", fromState, toState, legalStates));
+    }
+
+    /**
+     * The mutable part of the negotiation. Offers are kept in an unmodifiable list that is copied on append.
+     */
+    private record Snapshot(State state, String correlationId, List<Map<String, Object>> offers, Map<String, Object> agreement) {
+
+        Snapshot withState(State state) {
+            return new Snapshot(state, correlationId, offers, agreement);
+        }
+
+        Snapshot withCorrelationId(String correlationId) {
+            return new Snapshot(state, correlationId, offers, agreement);
+        }
+
+        Snapshot withOffer(Map<String, Object> offer) {
+            var appended = new ArrayList<Map<String, Object>>(offers.size() + 1);
+            appended.addAll(offers);
+            appended.add(offer);
+            return new Snapshot(state, correlationId, Collections.unmodifiableList(appended), agreement);
+        }
+
+        Snapshot withAgreement(Map<String, Object> agreement) {
+            return new Snapshot(state, correlationId, offers, agreement);
+        }
     }
 
     public enum State {
@@ -233,6 +264,8 @@ public class ContractNegotiation {
 
     public static class Builder {
         private ContractNegotiation negotiation;
+        private State state = State.INITIALIZED;
+        private String correlationId;
 
         private Builder() {
             negotiation = new ContractNegotiation();
@@ -243,7 +276,7 @@ public class ContractNegotiation {
         }
 
         public Builder correlationId(String correlationId) {
-            negotiation.correlationId = correlationId;
+            this.correlationId = correlationId;
             return this;
         }
 
@@ -262,8 +295,17 @@ public class ContractNegotiation {
             return this;
         }
 
+        /**
+         * Registers a listener invoked when the correlation id is changed after the negotiation is built. The listener is
+         * invoked before state listeners.
+         */
+        public Builder correlationListener(Consumer<ContractNegotiation> listener) {
+            negotiation.correlationListeners.add(listener);
+            return this;
+        }
+
         public Builder state(State state) {
-            this.negotiation.state = state;
+            this.state = state;
             return this;
         }
 
@@ -285,8 +327,9 @@ public class ContractNegotiation {
 
         public ContractNegotiation build() {
             negotiation.id = randomUUID().toString();
-            negotiation.verifyCorrelationId(negotiation.state);
+            verifyCorrelationId(correlationId, state);
             Objects.requireNonNull(negotiation.negotiationKind);
+            negotiation.snapshot.set(new Snapshot(state, correlationId, List.of(), null));
             return negotiation;
         }
 
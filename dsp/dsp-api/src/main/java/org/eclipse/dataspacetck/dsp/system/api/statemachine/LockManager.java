@@ -1,72 +0,0 @@
-/*
- *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
- *
- *  This program and the accompanying materials are made available under the
- *  terms of the Apache License, Version 2.0 which is available at
- * https://www.apache.org/licenses/LICENSE-2.0
- *
- *  SPDX-License-Identifier: Apache-2.0
- *
- *  Contributors:
- *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
- *
- *
- */
-
-package org.eclipse.dataspacetck.dsp.system.api.statemachine;
-
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Supplier;
-
-/**
- * Manages read and write operations, allowing for re-entrant lock acquisition.
- */
-class LockManager {
-    private static final int TIMEOUT = 5000;
-
-    private final ReadWriteLock lock;
-
-    LockManager() {
-        this.lock = new ReentrantReadWriteLock();
-    }
-
-    /**
-     * Obtains a read-lock or times out if unable to do so by the {@link #TIMEOUT}.
-     */
-    public <T> T readLock(Supplier<T> work) {
-        try {
-            if (!lock.readLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
-                throw new RuntimeException("Timeout acquiring read lock");
-            }
-            try {
-                return work.get();
-            } finally {
-                lock.readLock().unlock();
-            }
-        } catch (InterruptedException e) {
-            Thread.interrupted();
-            throw new IllegalStateException(e);
-        }
-    }
-
-    /**
-     * Obtains a write-lock or times out if unable to do so by the {@link #TIMEOUT}.
-     */
-    public <T> T writeLock(Supplier<T> work) {
-        try {
-            if (!lock.writeLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
-                throw new RuntimeException("Timeout acquiring write lock");
-            }
-            try {
-                return work.get();
-            } finally {
-                lock.writeLock().unlock();
-            }
-        } catch (InterruptedException e) {
-            Thread.interrupted();
-            throw new IllegalStateException(e);
-        }
-    }
-}
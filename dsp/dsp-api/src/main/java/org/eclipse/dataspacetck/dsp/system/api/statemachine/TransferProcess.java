@@ -14,14 +14,22 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metrics;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.transitionNames;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.COMPLETED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.STARTED;
@@ -32,15 +40,17 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 /**
  * The transfer process entity.
  * <p>
- * This implementation is thread-safe.
+ * This implementation is thread-safe and lock-free. State, correlation id and data address are held in an immutable
+ * snapshot that is replaced with a compare-and-set, so readers never block and always see a consistent combination.
  */
 public class TransferProcess {
-
-    private final LockManager lockManager = new LockManager();
-    private State state = State.INITIALIZED;
-    private DataAddress dataAddress;
+    private static final String[][] TRANSITION_METRICS = transitionNames("transfer.transition", State.class);
+    private static final Consumer<TransferProcess> NULL_WORK = tp -> {
+    };
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(State.INITIALIZED, null, null));
+    private final List<BiConsumer<State, TransferProcess>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<TransferProcess>> correlationListeners = new ArrayList<>();
     private String id;
-    private String correlationId;
     private String agreementId;
     private String format;
     private String callbackAddress;
@@ -51,11 +61,11 @@ public class TransferProcess {
     }
 
     public DataAddress getDataAddress() {
-        return dataAddress;
+        return snapshot.get().dataAddress();
     }
 
     public void setDataAddress(DataAddress dataAddress) {
-        this.dataAddress = dataAddress;
+        snapshot.updateAndGet(current -> current.withDataAddress(dataAddress));
     }
 
     public String getAgreementId() {
@@ -67,15 +77,18 @@ public class TransferProcess {
     }
 
     public String getCorrelationId() {
-        return correlationId;
+        return snapshot.get().correlationId();
     }
 
     public void setCorrelationId(String correlationId) {
-        this.correlationId = correlationId;
+        var previous = snapshot.getAndUpdate(current -> current.withCorrelationId(correlationId));
+        if (!Objects.equals(previous.correlationId(), correlationId)) {
+            correlationListeners.forEach(l -> l.accept(this));
+        }
     }
 
     public State getState() {
-        return state;
+        return snapshot.get().state();
     }
 
     public String getCallbackAddress() {
@@ -83,54 +96,101 @@ public class TransferProcess {
     }
 
     public String consumerPid() {
-        return transferKind.equals(TransferKind.Consumer) ? id : correlationId;
+        return transferKind.equals(TransferKind.Consumer) ? id : getCorrelationId();
     }
 
     public String providerPid() {
-        return transferKind.equals(TransferKind.Provider) ? id : correlationId;
+        return transferKind.equals(TransferKind.Provider) ? id : getCorrelationId();
+    }
+
+    /**
+     * Registers a listener invoked with the previous state when the process transitions.
+     */
+    public void registerListener(BiConsumer<State, TransferProcess> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     */
+    public void deregisterListener(BiConsumer<State, TransferProcess> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the correlation id, transitions to the new state and executes the work.
+     */
+    public void setCorrelationId(String correlationId, State newState, Consumer<TransferProcess> work) {
+        update(current -> current.withCorrelationId(correlationId), newState, work);
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Stores the data address, transitions to the new state and executes the work. Readers observe the data address
+     * and the new state together.
+     */
+    public void storeDataAddress(DataAddress dataAddress, State newState, Consumer<TransferProcess> work) {
+        update(current -> current.withDataAddress(dataAddress), newState, work);
+    }
+
+    /**
+     * Transitions to the new state.
      */
     public void transition(State newState) {
-        transition(newState, (tp) -> {
-        });
+        transition(newState, NULL_WORK);
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Transitions to the new state and executes the work once the transition is published.
      *
      * @param newState the new state
      * @param work     the work to execute
      */
     public void transition(State newState, Consumer<TransferProcess> work) throws IllegalStateException {
-        lockManager.writeLock(() -> {
-            switch (state) {
-                case INITIALIZED -> {
-                    assertStates(newState, REQUESTED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                }
-                case REQUESTED, SUSPENDED -> {
-                    assertStates(newState, STARTED, TERMINATED);
-                    state = newState;
-                }
-                case STARTED -> {
-                    assertStates(newState, SUSPENDED, TERMINATED, TERMINATED, COMPLETED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                }
-                case COMPLETED -> throw new IllegalStateException(COMPLETED + " is a final state");
-                case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
-                default -> throw new IllegalStateException("Unexpected value: " + state);
+        update(UnaryOperator.identity(), newState, work);
+    }
+
+    /**
+     * Applies the change and transitions to the new state in a single atomic step, retrying if another thread
+     * published a snapshot concurrently. Listeners and work are invoked once the new snapshot is visible.
+     */
+    private void update(UnaryOperator<Snapshot> change, State newState, Consumer<TransferProcess> work) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            next = change.apply(current);
+            verifyTransition(next, newState);
+            next = next.withState(newState);
+        } while (!snapshot.compareAndSet(current, next));
+        if (!Objects.equals(current.correlationId(), next.correlationId())) {
+            correlationListeners.forEach(l -> l.accept(this));
+        }
+        var oldState = current.state();
+        if (oldState != newState) {
+            metrics().increment(TRANSITION_METRICS[oldState.ordinal()][newState.ordinal()]);
+        }
+        listeners.forEach(l -> l.accept(oldState, this));
+        work.accept(this);
+    }
+
+    private void verifyTransition(Snapshot current, State newState) {
+        switch (current.state()) {
+            case INITIALIZED -> {
+                assertStates(current.state(), newState, REQUESTED);
+                verifyCorrelationId(current.correlationId(), newState);
+            }
+            case REQUESTED, SUSPENDED -> assertStates(current.state(), newState, STARTED, TERMINATED);
+            case STARTED -> {
+                assertStates(current.state(), newState, SUSPENDED, TERMINATED, TERMINATED, COMPLETED);
+                verifyCorrelationId(current.correlationId(), newState);
             }
-            work.accept(this);
-            return null;
-        });
+            case COMPLETED -> throw new IllegalStateException(COMPLETED + " is a final state");
+            case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
+            default -> throw new IllegalStateException("Unexpected value: " + current.state());
+        }
     }
 
-    private void verifyCorrelationId(State newState) {
+    private static void verifyCorrelationId(String correlationId, State newState) {
         if (newState == REQUESTED || newState == STARTED) {
             if (correlationId == null) {
                 throw new IllegalStateException("Correlation id not set");
@@ -138,14 +198,32 @@ public class TransferProcess {
         }
     }
 
-    private void assertStates(State toState, State... states) {
+    private static void assertStates(State fromState, State toState, State... states) {
         for (var state : states) {
             if (toState == state) {
                 return;
             }
         }
         var legalStates = Arrays.stream(states).map(Enum::toString).collect(Collectors.joining(", "));
-        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", this.state, toState, legalStates));
+        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", fromState, toState, legalStates));
+    }
+
+    /**
+     * The mutable part of the transfer process.
+     */
+    private record Snapshot(State state, String correlationId, DataAddress dataAddress) {
+
+        Snapshot withState(State state) {
+            return new Snapshot(state, correlationId, dataAddress);
+        }
+
+        Snapshot withCorrelationId(String correlationId) {
+            return new Snapshot(state, correlationId, dataAddress);
+        }
+
+        Snapshot withDataAddress(DataAddress dataAddress) {
+            return new Snapshot(state, correlationId, dataAddress);
+        }
     }
 
     public enum State {
@@ -184,7 +262,24 @@ public class TransferProcess {
         }
 
         public Builder correlationId(String correlationId) {
-            process.correlationId = correlationId;
+            process.snapshot.updateAndGet(current -> current.withCorrelationId(correlationId));
+            return this;
+        }
+
+        /**
+         * Registers a listener invoked with the previous state when the process transitions.
+         */
+        public Builder listener(BiConsumer<State, TransferProcess> listener) {
+            process.listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Registers a listener invoked when the correlation id is changed after the process is built. The listener is
+         * invoked before state listeners.
+         */
+        public Builder correlationListener(Consumer<TransferProcess> listener) {
+            process.correlationListeners.add(listener);
             return this;
         }
 
@@ -199,12 +294,12 @@ public class TransferProcess {
         }
 
         public Builder state(State state) {
-            process.state = state;
+            process.snapshot.updateAndGet(current -> current.withState(state));
             return this;
         }
 
         public Builder dataAddress(DataAddress dataAddress) {
-            process.dataAddress = dataAddress;
+            process.setDataAddress(dataAddress);
             return this;
         }
 
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class HttpFunctionsTest {
+    private final List<Integer> remotePorts = new CopyOnWriteArrayList<>();
+    private final List<String> authorizationHeaders = new CopyOnWriteArrayList<>();
+    private final List<String> methods = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger unregistered = new AtomicInteger();
+    private HttpServer server;
+    private String url;
+
+    @Test
+    void verifyConnectionReuseAndAuthorization() throws IOException {
+        HttpFunctions.initialize(HttpClientConfiguration.Builder.newInstance()
+                .http2(false)
+                .authorizationHeader("token")
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            try (var response = HttpFunctions.getJson(url)) {
+                assertThat(response.body().string()).isEqualTo("{}");
+            }
+        }
+
+        assertThat(remotePorts).hasSize(3).containsOnly(remotePorts.get(0));
+        assertThat(authorizationHeaders).containsOnly("token");
+    }
+
+    @Test
+    void verifyAsyncPostRetriesWithoutBlocking() throws Exception {
+        failures.set(2);
+
+        var future = HttpFunctions.postJsonAsync(url, Map.of("foo", "bar"), false, true);
+
+        try (var response = future.get(10, SECONDS)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(remotePorts).hasSize(3);
+    }
+
+    @Test
+    void verifyAsyncGetFailsOnUnexpectedCode() {
+        failures.set(1);
+
+        assertThat(HttpFunctions.getJsonAsync(url))
+                .failsWithin(10, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void verifyAsyncRequestsFailOnInvalidUrl() {
+        assertThat(HttpFunctions.getJsonAsync("not a url"))
+                .failsWithin(10, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(HttpFunctions.postJsonAsync("not a url", Map.of("foo", "bar"), false, true))
+                .failsWithin(10, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyAwaitHandlerProbesUntilRegistered() {
+        unregistered.set(2);
+
+        HttpFunctions.awaitHandler(url);
+
+        assertThat(methods).hasSize(3).containsOnly("OPTIONS");
+    }
+
+    @Test
+    void verifyAwaitHandlerDoesNotSendMessage() {
+        HttpFunctions.awaitHandler(url);
+
+        try (var response = HttpFunctions.postJson(url, Map.of("foo", "bar"), false, true)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(methods).containsExactly("OPTIONS", "POST");
+    }
+
+    @Test
+    void verifyClosedClientRecreatedWithConfiguration() {
+        HttpFunctions.initialize(HttpClientConfiguration.Builder.newInstance()
+                .authorizationHeader("token")
+                .build());
+        HttpFunctions.close();
+
+        HttpFunctions.getJson(url).close();
+
+        assertThat(authorizationHeaders).containsExactly("token");
+    }
+
+    @Test
+    void verifyUninitializedClientRejected() {
+        HttpFunctions.reset();
+
+        assertThatIllegalStateException().isThrownBy(() -> HttpFunctions.getJson(url));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void verifyDeprecatedAuthorizationKeepsConfiguration() {
+        HttpFunctions.registerAuthorizationInterceptor("token");
+
+        HttpFunctions.getJson(url).close();
+
+        assertThat(authorizationHeaders).containsExactly("token");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        HttpFunctions.initialize(HttpClientConfiguration.Builder.newInstance().build());
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            authorizationHeaders.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            methods.add(exchange.getRequestMethod());
+            var body = "{}".getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            var code = unregistered.getAndUpdate(count -> Math.max(0, count - 1)) > 0 ? 404
+                    : failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0 ? 400 : 200;
+            exchange.sendResponseHeaders(code, body.length);
+            try (var stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/test";
+    }
+
+    @AfterEach
+    void tearDown() {
+        HttpFunctions.reset();
+        server.stop(0);
+    }
+}
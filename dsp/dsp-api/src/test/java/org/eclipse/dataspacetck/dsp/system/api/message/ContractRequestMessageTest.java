@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAcceptedEvent;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
+
+class ContractRequestMessageTest {
+    private static final String PROVIDER_PID = "urn:uuid:4d0a6f0e-provider";
+    private static final String CONSUMER_PID = "urn:uuid:9b1c2d3e-consumer";
+    private static final String OFFER_ID = "urn:uuid:0c5e7a8b-offer";
+
+    @Test
+    void verifyInitialRequestBound() {
+        var expanded = processJsonLd(createContractRequest(CONSUMER_PID, OFFER_ID, "urn:uuid:dataset", "https://example.com/callback"));
+
+        var message = ContractRequestMessage.from(expanded);
+
+        assertThat(message.isCounterOffer()).isFalse();
+        assertThat(message.consumerPid()).isEqualTo(CONSUMER_PID);
+        assertThat(message.offerId()).isEqualTo(OFFER_ID);
+        assertThat(message.callbackAddress()).isEqualTo("https://example.com/callback");
+        assertThat(message.offer()).isNotEmpty();
+    }
+
+    @Test
+    void verifyCounterOfferBound() {
+        var expanded = processJsonLd(createContractRequest(CONSUMER_PID, PROVIDER_PID, OFFER_ID, "urn:uuid:dataset", null));
+
+        var message = ContractRequestMessage.from(expanded);
+
+        assertThat(message.isCounterOffer()).isTrue();
+        assertThat(message.providerPid()).isEqualTo(PROVIDER_PID);
+        assertThat(message.consumerPid()).isEqualTo(CONSUMER_PID);
+        assertThat(message.callbackAddress()).isNull();
+    }
+
+    @Test
+    void verifyProcessMessageBound() {
+        var expanded = processJsonLd(createVerification(PROVIDER_PID, CONSUMER_PID));
+
+        var message = ProcessMessage.from(expanded);
+
+        assertThat(message.providerPid()).isEqualTo(PROVIDER_PID);
+        assertThat(message.consumerPid()).isEqualTo(CONSUMER_PID);
+        assertThat(message.message()).isSameAs(expanded);
+    }
+
+    @Test
+    void verifyMissingPidTolerated() {
+        var expanded = processJsonLd(createVerification(PROVIDER_PID, CONSUMER_PID));
+        expanded.remove(DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+
+        var message = ProcessMessage.from(expanded);
+
+        assertThat(message.providerPid()).isEqualTo(PROVIDER_PID);
+        assertThat(message.consumerPid()).isNull();
+    }
+
+    @Test
+    void verifyEventMissingPidTolerated() {
+        var expanded = processJsonLd(createAcceptedEvent(PROVIDER_PID, CONSUMER_PID));
+        expanded.remove(DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+
+        var message = ContractNegotiationEventMessage.from(expanded);
+
+        assertThat(message.providerPid()).isEqualTo(PROVIDER_PID);
+        assertThat(message.consumerPid()).isNull();
+    }
+
+    @Test
+    void verifyEventMissingTypeRejected() {
+        var expanded = processJsonLd(createAcceptedEvent(PROVIDER_PID, CONSUMER_PID));
+        expanded.remove(DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED);
+
+        assertThatThrownBy(() -> ContractNegotiationEventMessage.from(expanded))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining(DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED);
+    }
+}
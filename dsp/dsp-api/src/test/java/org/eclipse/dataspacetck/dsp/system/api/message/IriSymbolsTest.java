@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.eclipse.dataspacetck.core.api.message.JsonValueFunctions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DcatConstants.DCAT_PROPERTY_DATASET_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TYPE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+
+class IriSymbolsTest {
+
+    @AfterEach
+    void tearDown() {
+        JsonValueFunctions.useSymbols(null);
+    }
+
+    @Test
+    void verifyConstantsInterned() {
+        assertThat(IriSymbols.intern(new String(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED))).isSameAs(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
+        assertThat(IriSymbols.intern(new String(DCAT_PROPERTY_DATASET_EXPANDED))).isSameAs(DCAT_PROPERTY_DATASET_EXPANDED);
+        assertThat(IriSymbols.intern(new String("http://www.w3.org/ns/odrl/2/permission"))).isSameAs("http://www.w3.org/ns/odrl/2/permission");
+        assertThat(IriSymbols.size()).isGreaterThan(50);
+    }
+
+    @Test
+    void verifyUnknownValuesReturned() {
+        var value = new String("urn:uuid:unknown");
+
+        assertThat(IriSymbols.intern(value)).isSameAs(value);
+    }
+
+    @Test
+    void verifyExpandedKeysInterned() {
+        IriSymbols.install();
+
+        var expanded = processJsonLd(createOffer("urn:provider", "urn:consumer", "urn:offer", "provider", "consumer", "urn:dataset"));
+
+        assertThat(expanded.keySet())
+                .anySatisfy(key -> assertThat(key).isSameAs(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED))
+                .anySatisfy(key -> assertThat(key).isSameAs(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED));
+        assertThat((List<?>) expanded.get(TYPE)).singleElement().isSameAs("https://w3id.org/dspace/2025/1/ContractOfferMessage");
+    }
+}
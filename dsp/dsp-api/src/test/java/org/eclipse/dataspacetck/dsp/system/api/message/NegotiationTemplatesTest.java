@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_AGREEMENT;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_TIMESTAMP;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createEvent;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeTermination;
+
+class NegotiationTemplatesTest {
+    private static final String PROVIDER_PID = "urn:uuid:4d0a6f0e-provider";
+    private static final String CONSUMER_PID = "urn:uuid:9b1c2d3e-consumer";
+    private static final String CALLBACK_ADDRESS = "https://consumer.test/callback";
+
+    @Test
+    void verifyContractRequestMatchesSerialize() {
+        var message = createContractRequest(CONSUMER_PID, "offer1", "dataset1", CALLBACK_ADDRESS);
+
+        var filled = NegotiationTemplates.CONTRACT_REQUEST.fill(id(message), CONSUMER_PID, "offer1", "dataset1", CALLBACK_ADDRESS);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyProviderContractRequestMatchesSerialize() {
+        var message = createContractRequest(CONSUMER_PID, PROVIDER_PID, "offer1", "dataset1", null);
+
+        var filled = NegotiationTemplates.PROVIDER_CONTRACT_REQUEST.fill(id(message), CONSUMER_PID, PROVIDER_PID, "offer1", "dataset1");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyOfferMatchesSerialize() {
+        var message = createOffer(PROVIDER_PID, CONSUMER_PID, "offer1", "provider", "consumer", "dataset1");
+
+        var filled = NegotiationTemplates.OFFER.fill(id(message), PROVIDER_PID, CONSUMER_PID, "offer1", "provider", "consumer", "dataset1");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyAgreementMatchesSerialize() {
+        var message = createAgreement(PROVIDER_PID, CONSUMER_PID, "agreement1", "provider", "consumer", "dataset1", CALLBACK_ADDRESS);
+        var timestamp = (String) ((Map<String, Object>) message.get(DSPACE_PROPERTY_AGREEMENT)).get(DSPACE_PROPERTY_TIMESTAMP);
+
+        var filled = NegotiationTemplates.AGREEMENT.fill(id(message), PROVIDER_PID, CONSUMER_PID, "agreement1", "provider",
+                "consumer", "dataset1", timestamp);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyEventMatchesSerialize() {
+        var message = createEvent(PROVIDER_PID, CONSUMER_PID, "FINALIZED");
+
+        var filled = NegotiationTemplates.EVENT.fill(id(message), PROVIDER_PID, CONSUMER_PID, "FINALIZED");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyVerificationMatchesSerialize() {
+        var message = createVerification(PROVIDER_PID, CONSUMER_PID);
+
+        var filled = NegotiationTemplates.VERIFICATION.fill(id(message), PROVIDER_PID, CONSUMER_PID);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyTerminationMatchesSerialize() {
+        var message = createTermination(PROVIDER_PID, CONSUMER_PID, "1");
+
+        var filled = NegotiationTemplates.TERMINATION.fill(id(message), PROVIDER_PID, CONSUMER_PID, "1");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyTerminationWithReasonsSerializedFromMessage() {
+        var serialized = new String(serializeTermination(PROVIDER_PID, CONSUMER_PID, "1", "rejected"), UTF_8);
+
+        // the termination template has no reason, so the message must be serialized from its map
+        assertThat(serialized).contains("\"reason\"");
+    }
+
+    private static String id(Map<String, Object> message) {
+        return (String) message.get(ID);
+    }
+}
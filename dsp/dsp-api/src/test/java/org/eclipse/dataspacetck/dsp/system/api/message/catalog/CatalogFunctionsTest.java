@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.catalog;
+
+import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.Catalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DcatConstants.DCAT_PROPERTY_DATASET_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createCatalogResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createDataset;
+import static org.eclipse.dataspacetck.dsp.system.api.message.catalog.CatalogFunctions.createStreamingCatalogResponse;
+
+class CatalogFunctionsTest {
+
+    @Test
+    void verifyStreamingCatalogResponseMatchesCatalogResponse() {
+        var catalog = new Catalog("provider");
+        for (int i = 0; i < 3; i++) {
+            catalog.addDataset(createDataset("dataset" + i));
+        }
+
+        var response = createStreamingCatalogResponse(catalog);
+
+        assertThat(response.code()).isEqualTo(200);
+        assertThat(response.body()).isNotNull();
+        assertThat(response.body().length()).isEqualTo(-1);
+        var streamed = processJsonLd(new ByteArrayInputStream(response.result().getBytes(UTF_8)));
+        var expected = processJsonLd(createCatalogResponse(catalog));
+        var datasetIds = ((List<?>) streamed.get(DCAT_PROPERTY_DATASET_EXPANDED)).stream()
+                .map(dataset -> (Object) ((Map<?, ?>) dataset).get("@id"))
+                .toList();
+        assertThat(datasetIds).containsExactlyInAnyOrder("dataset0", "dataset1", "dataset2");
+        // nodes without an identity in the catalog are assigned a random id on every call
+        assertThat(withoutIds(streamed)).isEqualTo(withoutIds(expected));
+    }
+
+    private static Object withoutIds(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            var result = new LinkedHashMap<Object, Object>();
+            map.forEach((key, entry) -> {
+                if (!"@id".equals(key)) {
+                    result.put(key, withoutIds(entry));
+                }
+            });
+            return result;
+        } else if (value instanceof List<?> list) {
+            return list.stream().map(CatalogFunctionsTest::withoutIds).toList();
+        }
+        return value;
+    }
+}
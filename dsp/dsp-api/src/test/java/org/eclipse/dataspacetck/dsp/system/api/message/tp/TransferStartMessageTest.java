@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.dataspacetck.dsp.system.api.message.tp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createStartRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.dataAddress;
+
+class TransferStartMessageTest {
+    private static final String PROVIDER_PID = "urn:uuid:4d0a6f0e-provider";
+    private static final String CONSUMER_PID = "urn:uuid:9b1c2d3e-consumer";
+
+    @Test
+    void verifyDataAddressBound() {
+        var message = TransferStartMessage.from(processJsonLd(createStartRequest(PROVIDER_PID, CONSUMER_PID, dataAddress())));
+
+        assertThat(message.providerPid()).isEqualTo(PROVIDER_PID);
+        assertThat(message.consumerPid()).isEqualTo(CONSUMER_PID);
+        assertThat(message.dataAddress()).isNotNull();
+        assertThat(message.dataAddress().endpoint()).isEqualTo("http://example.com");
+        assertThat(message.dataAddress().endpointType()).isEqualTo("https://w3id.org/idsa/v4.1/HTTP");
+        assertThat(message.dataAddress().endpointProperties()).isEmpty();
+    }
+
+    @Test
+    void verifyWithoutDataAddress() {
+        var message = TransferStartMessage.from(processJsonLd(createStartRequest(PROVIDER_PID, CONSUMER_PID, null)));
+
+        assertThat(message.dataAddress()).isNull();
+    }
+}
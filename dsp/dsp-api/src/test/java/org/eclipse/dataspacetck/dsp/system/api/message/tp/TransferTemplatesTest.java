@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.tp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createCompletion;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createStartRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createSuspension;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.dataAddress;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeStartRequest;
+
+class TransferTemplatesTest {
+    private static final String PROVIDER_PID = "urn:uuid:4d0a6f0e-provider";
+    private static final String CONSUMER_PID = "urn:uuid:9b1c2d3e-consumer";
+
+    @Test
+    void verifyStartMatchesSerialize() {
+        var message = createStartRequest(PROVIDER_PID, CONSUMER_PID, null);
+
+        var filled = TransferTemplates.START.fill(id(message), PROVIDER_PID, CONSUMER_PID);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyCompletionMatchesSerialize() {
+        var message = createCompletion(PROVIDER_PID, CONSUMER_PID);
+
+        var filled = TransferTemplates.COMPLETION.fill(id(message), PROVIDER_PID, CONSUMER_PID);
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyTerminationMatchesSerialize() {
+        var message = createTermination(PROVIDER_PID, CONSUMER_PID, "1");
+
+        var filled = TransferTemplates.TERMINATION.fill(id(message), PROVIDER_PID, CONSUMER_PID, "1");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifySuspensionMatchesSerialize() {
+        var message = createSuspension(PROVIDER_PID, CONSUMER_PID, "1");
+
+        var filled = TransferTemplates.SUSPENSION.fill(id(message), PROVIDER_PID, CONSUMER_PID, "1");
+
+        assertThat(new String(filled, UTF_8)).isEqualTo(serialize(message));
+    }
+
+    @Test
+    void verifyStartWithDataAddressSerializedFromMessage() {
+        var serialized = new String(serializeStartRequest(PROVIDER_PID, CONSUMER_PID, dataAddress()), UTF_8);
+
+        assertThat(serialized).contains("http://example.com");
+    }
+
+    private static String id(Map<String, Object> message) {
+        return (String) message.get(ID);
+    }
+}
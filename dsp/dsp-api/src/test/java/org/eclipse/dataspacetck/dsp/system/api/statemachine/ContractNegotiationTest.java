@@ -20,12 +20,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,6 +74,61 @@ class ContractNegotiationTest {
         verify(listener, times(1)).accept(eq(INITIALIZED), isA(ContractNegotiation.class));
     }
 
+    @Test
+    void verifyListenerObservesPublishedState() {
+        var observed = new AtomicReference<ContractNegotiation.State>();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .listener((oldState, n) -> observed.set(n.getState()))
+                .build();
+
+        negotiation.transition(REQUESTED);
+
+        assertEquals(REQUESTED, observed.get());
+    }
+
+    @Test
+    void verifyCorrelationListenerCalledBeforeStateListeners() {
+        var events = new ArrayList<String>();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .listener((oldState, n) -> events.add("state"))
+                .correlationListener(n -> events.add(n.getCorrelationId()))
+                .build();
+
+        negotiation.setCorrelationId("urn:correlation", REQUESTED);
+        negotiation.transition(TERMINATED);
+
+        assertEquals(List.of("urn:correlation", "state", "state"), events);
+    }
+
+    @Test
+    void verifyConcurrentOffersAreStored() throws InterruptedException {
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .state(OFFERED)
+                .build();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            var offer = Map.<String, Object>of("id", i);
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    negotiation.storeOffer(offer, OFFERED, n -> {
+                    });
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(800, negotiation.getOffers().size());
+        assertEquals(OFFERED, negotiation.getState());
+    }
+
     @BeforeEach
     void setUp() {
         negotiation = ContractNegotiation.Builder.newInstance().datasetId(randomUUID().toString()).build();
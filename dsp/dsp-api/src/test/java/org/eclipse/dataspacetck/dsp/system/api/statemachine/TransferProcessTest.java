@@ -14,9 +14,15 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.COMPLETED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
@@ -24,10 +30,48 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.SUSPENDED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TransferProcessTest {
 
+    @Test
+    void verifyDataAddressPublishedWithState() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString())
+                .correlationId(randomUUID().toString()).state(REQUESTED).build();
+        var dataAddress = new TransferProcess.DataAddress("https://w3id.org/idsa/v4.1/HTTP", "https://example.com", Map.of());
+        var observed = new AtomicReference<TransferProcess.DataAddress>();
+
+        transferProcess.storeDataAddress(dataAddress, STARTED, tp -> observed.set(tp.getDataAddress()));
+
+        assertEquals(STARTED, transferProcess.getState());
+        assertEquals(dataAddress, observed.get());
+    }
+
+    @Test
+    void verifyListenerObservesPreviousAndPublishedState() {
+        var observed = new ArrayList<String>();
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString())
+                .correlationId(randomUUID().toString()).state(REQUESTED)
+                .listener((oldState, tp) -> observed.add(oldState + "->" + tp.getState()))
+                .build();
+
+        transferProcess.transition(STARTED);
+        transferProcess.transition(COMPLETED);
+
+        assertEquals(List.of("REQUESTED->STARTED", "STARTED->COMPLETED"), observed);
+    }
+
+    @Test
+    void verifyInvalidTransitionDoesNotPublishDataAddress() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString()).build();
+        var dataAddress = new TransferProcess.DataAddress("https://w3id.org/idsa/v4.1/HTTP", "https://example.com", Map.of());
+
+        assertThrows(IllegalStateException.class, () -> transferProcess.storeDataAddress(dataAddress, STARTED, tp -> {
+        }));
+        assertNull(transferProcess.getDataAddress());
+    }
+
     @ParameterizedTest
     @EnumSource(value = TransferProcess.State.class, names = {"REQUESTED"})
     void verifyValidInitialStateTransitions(TransferProcess.State state) {
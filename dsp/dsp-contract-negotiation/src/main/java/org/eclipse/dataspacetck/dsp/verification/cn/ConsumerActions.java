@@ -19,13 +19,14 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.awaitHandler;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAcceptedEvent;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeAcceptedEvent;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeContractRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeVerification;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
@@ -46,8 +47,8 @@ public class ConsumerActions {
 
     public static void postRequest(String baseUrl, ContractNegotiation negotiation) {
         var url = format(REQUEST_PATH, baseUrl);
-        var contractRequest = createContractRequest(negotiation.getId(), negotiation.getOfferId(), negotiation.getDatasetId(), baseUrl);
-        try (var response = postJson(url, contractRequest)) {
+        var contractRequest = serializeContractRequest(negotiation.getId(), negotiation.getOfferId(), negotiation.getDatasetId(), baseUrl);
+        try (var response = post(url, contractRequest)) {
             // get the response and update the negotiation with the provider process id
             checkResponse(response);
             assert response.body() != null;
@@ -60,8 +61,8 @@ public class ConsumerActions {
     public static void postAccepted(String baseUrl, ContractNegotiation negotiation) {
         negotiation.transition(ACCEPTED);
         var url = format(EVENT_PATH, baseUrl, negotiation.getCorrelationId());
-        var agreement = createAcceptedEvent(negotiation.getCorrelationId(), negotiation.getId());
-        try (var response = postJson(url, agreement)) {
+        var agreement = serializeAcceptedEvent(negotiation.getCorrelationId(), negotiation.getId());
+        try (var response = post(url, agreement)) {
             checkResponse(response);
         }
     }
@@ -69,14 +70,14 @@ public class ConsumerActions {
     public static void postTerminated(String baseUrl, ContractNegotiation negotiation) {
         negotiation.transition(TERMINATED);
         var url = format(TERMINATION_PATH, baseUrl, negotiation.getCorrelationId());
-        var termination = createTermination(negotiation.getCorrelationId(), negotiation.getId(), "1");
-        try (var response = postJson(url, termination)) {
+        var termination = serializeTermination(negotiation.getCorrelationId(), negotiation.getId(), "1");
+        try (var response = post(url, termination)) {
             checkResponse(response);
         }
     }
 
     public static void postOffer(String baseUrl, ContractNegotiation negotiation) {
-        var contractOffer = createContractRequest(
+        var contractOffer = serializeContractRequest(
                 negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getOfferId(),
@@ -85,7 +86,7 @@ public class ConsumerActions {
 
         negotiation.transition(REQUESTED);
         var url = format(REQUEST_OFFER_PATH, baseUrl, negotiation.getCorrelationId());
-        try (var response = postJson(url, contractOffer)) {
+        try (var response = post(url, contractOffer)) {
             checkResponse(response);
         }
     }
@@ -93,24 +94,23 @@ public class ConsumerActions {
     public static void postVerification(String baseUrl, ContractNegotiation negotiation) {
         negotiation.transition(VERIFIED);
         var url = format(VERIFICATION_PATH, baseUrl, negotiation.getCorrelationId());
-        var verification = createVerification(negotiation.getCorrelationId(), negotiation.getId());
-        try (var response = postJson(url, verification)) {
+        var verification = serializeVerification(negotiation.getCorrelationId(), negotiation.getId());
+        try (var response = post(url, verification)) {
             checkResponse(response);
         }
     }
 
+    /**
+     * Posts the message once the TCK has registered the handler expecting it.
+     */
+    private static Response post(String url, Object message) {
+        awaitHandler(url);
+        return postJson(url, message);
+    }
+
     private static void checkResponse(Response response) {
         if (!response.isSuccessful()) {
             throw new AssertionError("Unexpected response code: " + response.code());
         }
     }
-
-    public static void pause() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
 }
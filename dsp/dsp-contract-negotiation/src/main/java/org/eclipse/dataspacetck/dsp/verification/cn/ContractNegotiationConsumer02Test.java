@@ -25,7 +25,6 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
-import static org.eclipse.dataspacetck.dsp.verification.cn.ConsumerActions.pause;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ConsumerActions.postRequest;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ConsumerActions.postTerminated;
 
@@ -81,7 +80,6 @@ public class ContractNegotiationConsumer02Test extends AbstractContractNegotiati
 
         negotiationMock.recordInitializedAction((url, cn) -> {
             postRequest(url, cn);
-            pause();
             postTerminated(url, cn);
         });
 
@@ -22,7 +22,6 @@ import org.junit.jupiter.api.Tag;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
-import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.pause;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postOffer;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postTerminate;
 
@@ -157,7 +156,6 @@ public class ContractNegotiationProvider02Test extends AbstractContractNegotiati
 
         negotiationMock.recordContractRequestedAction(negotiation -> {
             postOffer(negotiation);
-            pause();
             postTerminate(negotiation);
         });
 
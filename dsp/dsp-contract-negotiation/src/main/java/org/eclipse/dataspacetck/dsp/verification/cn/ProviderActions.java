@@ -20,12 +20,13 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.awaitHandler;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createFinalizedEvent;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeFinalizedEvent;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationTemplates.serializeTermination;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
@@ -43,7 +44,7 @@ public class ProviderActions {
     }
 
     public static void postOffer(ContractNegotiation negotiation) {
-        var contractOffer = createOffer(
+        var contractOffer = serializeOffer(
                 negotiation.getId(),
                 negotiation.getCorrelationId(),
                 randomUUID().toString(),
@@ -53,13 +54,13 @@ public class ProviderActions {
 
         negotiation.transition(OFFERED);
         var url = format(NEGOTIATION_OFFER_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId());
-        try (var response = postJson(url, contractOffer)) {
+        try (var response = post(url, contractOffer)) {
             checkResponse(response);
         }
     }
 
     public static void postAgreed(ContractNegotiation negotiation) {
-        var agreement = createAgreement(negotiation.getId(),
+        var agreement = serializeAgreement(negotiation.getId(),
                 negotiation.getCorrelationId(),
                 randomUUID().toString(),
                 negotiation.getCounterPartyId(),
@@ -68,32 +69,32 @@ public class ProviderActions {
                 negotiation.getCallbackAddress());
 
         negotiation.transition(AGREED);
-        try (var response = postJson(format(NEGOTIATION_AGREEMENT_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), agreement)) {
+        try (var response = post(format(NEGOTIATION_AGREEMENT_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), agreement)) {
             checkResponse(response);
         }
     }
 
     public static void postFinalized(ContractNegotiation negotiation) {
         negotiation.transition(FINALIZED);
-        var event = createFinalizedEvent(negotiation.getId(), negotiation.getCorrelationId());
-        try (var response = postJson(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event)) {
+        var event = serializeFinalizedEvent(negotiation.getId(), negotiation.getCorrelationId());
+        try (var response = post(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event)) {
             checkResponse(response);
         }
     }
 
     public static void postTerminate(ContractNegotiation negotiation) {
-        var termination = createTermination(negotiation.getId(), negotiation.getCorrelationId(), "1");
-        try (var response = postJson(format(NEGOTIATION_TERMINATE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), termination)) {
+        var termination = serializeTermination(negotiation.getId(), negotiation.getCorrelationId(), "1");
+        try (var response = post(format(NEGOTIATION_TERMINATE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), termination)) {
             checkResponse(response);
         }
     }
 
-    public static void pause() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Posts the message once the TCK has registered the handler expecting it.
+     */
+    private static Response post(String url, Object message) {
+        awaitHandler(url);
+        return postJson(url, message);
     }
 
     private static void checkResponse(Response response) {
@@ -25,7 +25,9 @@ import org.eclipse.dataspacetck.dsp.system.api.client.catalog.CatalogClient;
 import org.eclipse.dataspacetck.dsp.system.api.client.metadata.MetadataClient;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Consumer;
+import org.eclipse.dataspacetck.dsp.system.api.http.HttpClientConfiguration;
 import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.message.IriSymbols;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ConsumerNegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.mock.tp.ConsumerTransferProcessMock;
@@ -50,6 +52,7 @@ import org.eclipse.dataspacetck.dsp.system.client.tp.http.HttpConsumerTransferPr
 import org.eclipse.dataspacetck.dsp.system.client.tp.http.HttpProviderTransferProcessClient;
 import org.eclipse.dataspacetck.dsp.system.client.tp.local.LocalConsumerTransferProcessClient;
 import org.eclipse.dataspacetck.dsp.system.client.tp.local.LocalProviderTransferProcessClient;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
 import org.eclipse.dataspacetck.dsp.system.connector.TckConnector;
 import org.eclipse.dataspacetck.dsp.system.mock.ConsumerNegotiationMockImpl;
 import org.eclipse.dataspacetck.dsp.system.mock.NoOpConsumerNegotiationMock;
@@ -65,10 +68,13 @@ import org.eclipse.dataspacetck.dsp.system.pipeline.tp.ConsumerTransferProcessPi
 import org.eclipse.dataspacetck.dsp.system.pipeline.tp.ProviderTransferProcessPipelineImpl;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
+import static java.lang.String.format;
+import static java.util.Map.entry;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
 
@@ -86,19 +92,41 @@ public class DspSystemLauncher implements SystemLauncher {
     private static final String CONNECTOR_TRANSFER_INITIATE_URL_CONFIG = TCK_PREFIX + ".dsp.connector.transfer.initiate.url";
     private static final String THREAD_POOL_CONFIG = TCK_PREFIX + ".dsp.thread.pool";
     private static final String DEFAULT_WAIT_CONFIG = TCK_PREFIX + ".dsp.default.wait";
+    private static final String HTTP_POOL_SIZE_CONFIG = TCK_PREFIX + ".dsp.http.pool.size";
+    private static final String HTTP_KEEP_ALIVE_CONFIG = TCK_PREFIX + ".dsp.http.keep.alive";
+    private static final String HTTP2_CONFIG = TCK_PREFIX + ".dsp.http.http2";
+    private static final String HTTP_CONNECT_TIMEOUT_CONFIG = TCK_PREFIX + ".dsp.http.connect.timeout";
+    private static final String HTTP_READ_TIMEOUT_CONFIG = TCK_PREFIX + ".dsp.http.read.timeout";
+    private static final int DEFAULT_HTTP_POOL_SIZE = 10;
+    private static final long DEFAULT_HTTP_KEEP_ALIVE_SECONDS = 300;
+    private static final long DEFAULT_HTTP_CONNECT_TIMEOUT_SECONDS = 10;
+    private static final long DEFAULT_HTTP_READ_TIMEOUT_SECONDS = 10;
+    private static final String RETENTION_TTL_CONFIG = TCK_PREFIX + ".dsp.retention.ttl";
+    private static final String RETENTION_MAX_CONFIG = TCK_PREFIX + ".dsp.retention.max";
+    private static final long DEFAULT_RETENTION_TTL_SECONDS = 300;
+    private static final int DEFAULT_RETENTION_MAX = 1000;
     private static final int DEFAULT_WAIT_SECONDS = 15;
-    private final Map<String, Connector> consumerConnectors = new ConcurrentHashMap<>();
-    private final Map<String, Connector> providerConnectors = new ConcurrentHashMap<>();
-    private final Map<String, ProviderNegotiationMock> negotiationMocks = new ConcurrentHashMap<>();
-    private final Map<String, ProviderNegotiationClient> negotiationClients = new ConcurrentHashMap<>();
-    private final Map<String, ProviderTransferProcessClient> providerTransferClients = new ConcurrentHashMap<>();
-    private final Map<String, ConsumerTransferProcessClient> consumerTransferClients = new ConcurrentHashMap<>();
-    private final Map<String, ConsumerTransferProcessMock> consumerTransferMocks = new ConcurrentHashMap<>();
-    private final Map<String, ProviderTransferProcessMock> providerTransferMocks = new ConcurrentHashMap<>();
-    private final Map<String, ConsumerNegotiationMock> consumerNegotiationMocks = new ConcurrentHashMap<>();
-    private final Map<String, ConsumerNegotiationClient> consumerNegotiationClients = new ConcurrentHashMap<>();
-    private final Map<String, CatalogClient> providerCatalogClients = new ConcurrentHashMap<>();
-    private final Map<String, MetadataClient> providerMetadataClients = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ServiceFactory> REGISTRY = Map.ofEntries(
+            entry(ProviderNegotiationPipeline.class, DspSystemLauncher::createProviderPipeline),
+            entry(ConsumerNegotiationPipeline.class, DspSystemLauncher::createConsumerPipeline),
+            entry(Connector.class, DspSystemLauncher::createConnector),
+            entry(ProviderNegotiationMock.class, DspSystemLauncher::createProviderNegotiationMock),
+            entry(ConsumerNegotiationMock.class, DspSystemLauncher::createConsumerNegotiationMock),
+            entry(ProviderNegotiationClient.class, DspSystemLauncher::createNegotiationClient),
+            entry(ConsumerNegotiationClient.class, DspSystemLauncher::createConsumerNegotiationClient),
+            entry(ProviderTransferProcessPipeline.class, DspSystemLauncher::createProviderTransferProcessPipeline),
+            entry(ConsumerTransferProcessPipeline.class, DspSystemLauncher::createConsumerTransferProcessPipeline),
+            entry(ConsumerTransferProcessMock.class, DspSystemLauncher::createConsumerTransferProcessMock),
+            entry(ProviderTransferProcessMock.class, DspSystemLauncher::createProviderTransferProcessMock),
+            entry(CatalogClient.class, DspSystemLauncher::createCatalogClient),
+            entry(MetadataClient.class, DspSystemLauncher::createMetadataClient));
+    private static final ClassValue<ServiceFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected ServiceFactory computeValue(Class<?> type) {
+            return REGISTRY.get(type);
+        }
+    };
+    private final Map<String, ScopeServices> scopes = new ConcurrentHashMap<>();
 
     private Monitor monitor;
     private ExecutorService executor;
@@ -110,13 +138,17 @@ public class DspSystemLauncher implements SystemLauncher {
     private String connectorTransferInitiateUrl;
     private boolean useLocalConnector;
     private long waitTime = DEFAULT_WAIT_SECONDS;
+    private RetentionPolicy retentionPolicy = RetentionPolicy.UNBOUNDED;
 
     @Override
     public void start(SystemConfiguration configuration) {
         this.monitor = configuration.getMonitor();
+        IriSymbols.install();
         waitTime = configuration.getPropertyAsLong(DEFAULT_WAIT_CONFIG, DEFAULT_WAIT_SECONDS);
         executor = newFixedThreadPool(configuration.getPropertyAsInt(THREAD_POOL_CONFIG, 10));
         useLocalConnector = configuration.getPropertyAsBoolean(LOCAL_CONNECTOR_CONFIG, false);
+        retentionPolicy = new RetentionPolicy(Duration.ofSeconds(configuration.getPropertyAsLong(RETENTION_TTL_CONFIG, DEFAULT_RETENTION_TTL_SECONDS)),
+                configuration.getPropertyAsInt(RETENTION_MAX_CONFIG, DEFAULT_RETENTION_MAX));
         if (!useLocalConnector) {
             connectorProtocolUrl = configuration.getPropertyAsString(CONNECTOR_PROTOCOL_URL_CONFIG, null);
             if (connectorProtocolUrl == null) {
@@ -127,9 +159,6 @@ public class DspSystemLauncher implements SystemLauncher {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_BASE_URL_CONFIG);
             }
             baseAuthorizationHeader = configuration.getPropertyAsString(CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG, null);
-            if (baseAuthorizationHeader != null) {
-                HttpFunctions.registerAuthorizationInterceptor(baseAuthorizationHeader);
-            }
             connectorInitiateUrl = configuration.getPropertyAsString(CONNECTOR_INITIATE_URL_CONFIG, null);
             if (connectorInitiateUrl == null) {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_INITIATE_URL_CONFIG);
@@ -143,6 +172,8 @@ public class DspSystemLauncher implements SystemLauncher {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_AGENT_ID_CONFIG);
             }
         }
+        // test actions post to the TCK through the shared client also when the local connector is used
+        HttpFunctions.initialize(createHttpClientConfiguration(configuration));
     }
 
     @Override
@@ -150,242 +181,349 @@ public class DspSystemLauncher implements SystemLauncher {
         if (executor != null) {
             executor.shutdownNow();
         }
+        HttpFunctions.close();
+    }
+
+    @Override
+    public void closeScope(String scopeId) {
+        var scope = scopes.remove(scopeId);
+        if (scope != null && scope.hasConnectors()) {
+            var statistics = scope.getStatistics();
+            monitor.debug(format("Closed scope %s: %d negotiations, %d transfer processes, %d evicted",
+                    scopeId, statistics.negotiations(), statistics.transferProcesses(), statistics.evicted()));
+        }
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    /**
+     * Returns the combined entity counts of the connectors of all open scopes.
+     */
+    public TckConnector.Statistics getStatistics() {
+        var statistics = new TckConnector.Statistics(0, 0, 0);
+        for (var scope : scopes.values()) {
+            statistics = statistics.plus(scope.getStatistics());
+        }
+        return statistics;
     }
 
     @Override
     public <T> boolean providesService(Class<T> type) {
-        return type.equals(ProviderNegotiationClient.class) ||
-                type.equals(Connector.class) ||
-                type.equals(ProviderNegotiationMock.class) ||
-                type.equals(ConsumerNegotiationMock.class) ||
-                type.equals(ConsumerNegotiationPipeline.class) ||
-                type.equals(ProviderNegotiationPipeline.class) ||
-                type.equals(ConsumerTransferProcessPipeline.class) ||
-                type.equals(ProviderTransferProcessPipeline.class) ||
-                type.equals(ConsumerTransferProcessMock.class) ||
-                type.equals(ProviderTransferProcessMock.class);
+        return FACTORIES.get(type) != null;
     }
 
     @Nullable
     @Override
     public <T> T getService(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
-        if (ProviderNegotiationPipeline.class.equals(type)) {
-            return createProviderPipeline(type, configuration, resolver);
-        } else if (ConsumerNegotiationPipeline.class.equals(type)) {
-            return createConsumerPipeline(type, configuration, resolver);
-        } else if (Connector.class.equals(type)) {
-            return createConnector(type, configuration);
-        } else if (ProviderNegotiationMock.class.equals(type)) {
-            return createProviderNegotiationMock(type, configuration.getScopeId());
-        } else if (ConsumerNegotiationMock.class.equals(type)) {
-            return createConsumerNegotiationMock(type, configuration.getScopeId(), configuration, resolver);
-        } else if (ProviderNegotiationClient.class.equals(type)) {
-            return type.cast(createNegotiationClient(configuration.getScopeId()));
-        } else if (ConsumerNegotiationClient.class.equals(type)) {
-            return type.cast(createConsumerNegotiationClient(configuration.getScopeId(), configuration, resolver));
-        } else if (ProviderTransferProcessPipeline.class.equals(type)) {
-            return type.cast(createProviderTransferProcessPipeline(configuration, resolver));
-        } else if (ConsumerTransferProcessPipeline.class.equals(type)) {
-            return type.cast(createConsumerTransferProcessPipeline(configuration, resolver));
-        } else if (ConsumerTransferProcessMock.class.equals(type)) {
-            return type.cast(createConsumerTransferProcessMock(type, configuration.getScopeId(), configuration, resolver));
-        } else if (ProviderTransferProcessMock.class.equals(type)) {
-            return type.cast(createProviderTransferProcessMock(type, configuration.getScopeId(), configuration, resolver));
-        } else if (CatalogClient.class.equals(type)) {
-            return type.cast(createCatalogClient(configuration.getScopeId(), configuration, resolver));
-        } else if (MetadataClient.class.equals(type)) {
-            return type.cast(createMetadataClient(configuration.getScopeId(), configuration, resolver));
+        var factory = FACTORIES.get(type);
+        if (factory == null) {
+            return null;
         }
-        return null;
+        return type.cast(factory.create(this, scope(configuration.getScopeId()), configuration, resolver));
+    }
+
+    private ScopeServices scope(String scopeId) {
+        var scope = scopes.get(scopeId);
+        return scope != null ? scope : scopes.computeIfAbsent(scopeId, k -> new ScopeServices(monitor, retentionPolicy));
     }
 
-    private <T> T createProviderPipeline(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
-        var scopeId = configuration.getScopeId();
-        var negotiationClient = createNegotiationClient(scopeId);
+    private HttpClientConfiguration createHttpClientConfiguration(SystemConfiguration configuration) {
+        var poolSize = configuration.getPropertyAsInt(HTTP_POOL_SIZE_CONFIG, DEFAULT_HTTP_POOL_SIZE);
+        return HttpClientConfiguration.Builder.newInstance()
+                .maxIdleConnections(poolSize)
+                .maxRequestsPerHost(poolSize)
+                .keepAlive(Duration.ofSeconds(configuration.getPropertyAsLong(HTTP_KEEP_ALIVE_CONFIG, DEFAULT_HTTP_KEEP_ALIVE_SECONDS)))
+                .http2(configuration.getPropertyAsBoolean(HTTP2_CONFIG, true))
+                .connectTimeout(Duration.ofSeconds(configuration.getPropertyAsLong(HTTP_CONNECT_TIMEOUT_CONFIG, DEFAULT_HTTP_CONNECT_TIMEOUT_SECONDS)))
+                .readTimeout(Duration.ofSeconds(configuration.getPropertyAsLong(HTTP_READ_TIMEOUT_CONFIG, DEFAULT_HTTP_READ_TIMEOUT_SECONDS)))
+                .authorizationHeader(baseAuthorizationHeader)
+                .build();
+    }
+
+    private ProviderNegotiationPipeline createProviderPipeline(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        var negotiationClient = createNegotiationClient(scope, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
-        var pipeline = new ProviderNegotiationPipelineImpl(negotiationClient,
+        return new ProviderNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
-                consumerConnector,
+                scope.consumerConnector(),
                 connectorProtocolUrl,
                 connectorUnderTestId,
                 monitor,
                 waitTime);
-        return type.cast(pipeline);
     }
 
-    private <T> T createConsumerPipeline(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
-        var scopeId = configuration.getScopeId();
-        var negotiationClient = createConsumerNegotiationClient(scopeId, configuration, resolver);
+    private ConsumerNegotiationPipeline createConsumerPipeline(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        var negotiationClient = createConsumerNegotiationClient(scope, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
-        var pipeline = new ConsumerNegotiationPipelineImpl(negotiationClient,
+        return new ConsumerNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
-                providerConnector,
+                scope.providerConnector(),
                 connectorUnderTestId,
                 monitor,
                 waitTime);
-        return type.cast(pipeline);
     }
 
-    private <T> T createProviderNegotiationMock(Class<T> type, String scopeId) {
-        return type.cast(negotiationMocks.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                return new ProviderNegotiationMockImpl(connector.getProviderNegotiationManager(), executor);
-            } else {
-                return new NoOpProviderNegotiationMock();
+    private ProviderNegotiationMock createProviderNegotiationMock(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.providerNegotiationMock == null) {
+                scope.providerNegotiationMock = useLocalConnector
+                        ? new ProviderNegotiationMockImpl(scope.providerConnector().getProviderNegotiationManager(), executor)
+                        : new NoOpProviderNegotiationMock();
             }
-        }));
+            return scope.providerNegotiationMock;
+        }
     }
 
-    private <T> T createConsumerNegotiationMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
-        return type.cast(consumerNegotiationMocks.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                var negotiationManager = connector.getConsumerNegotiationManager();
-                var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-                @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
-                return new ConsumerNegotiationMockImpl(negotiationManager, executor, address);
-            } else {
-                return new NoOpConsumerNegotiationMock();
+    private ConsumerNegotiationMock createConsumerNegotiationMock(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.consumerNegotiationMock == null) {
+                if (useLocalConnector) {
+                    var negotiationManager = scope.consumerConnector().getConsumerNegotiationManager();
+                    var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
+                    @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
+                    scope.consumerNegotiationMock = new ConsumerNegotiationMockImpl(negotiationManager, executor, address);
+                } else {
+                    scope.consumerNegotiationMock = new NoOpConsumerNegotiationMock();
+                }
             }
-        }));
+            return scope.consumerNegotiationMock;
+        }
     }
 
-    private <T> T createConnector(Class<T> type, ServiceConfiguration configuration) {
-        var scopeId = configuration.getScopeId();
+    private Connector createConnector(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
         if (configuration.getAnnotations().stream().anyMatch(a -> a.annotationType().equals(Consumer.class))) {
-            return type.cast(consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+            return scope.consumerConnector();
         }
-        return type.cast(providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+        return scope.providerConnector();
     }
 
-    private ProviderNegotiationClient createNegotiationClient(String scopeId) {
-        return negotiationClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                return new LocalProviderNegotiationClientImpl(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+    private ProviderNegotiationClient createNegotiationClient(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.negotiationClient == null) {
+                scope.negotiationClient = useLocalConnector
+                        ? new LocalProviderNegotiationClientImpl(scope.providerConnector())
+                        : new HttpProviderNegotiationClientImpl(connectorProtocolUrl, monitor);
             }
-            return new HttpProviderNegotiationClientImpl(connectorProtocolUrl, monitor);
-        });
+            return scope.negotiationClient;
+        }
     }
 
-    private ConsumerNegotiationClient createConsumerNegotiationClient(String scopeId,
-                                                                      ServiceConfiguration configuration,
-                                                                      ServiceResolver resolver) {
-        return consumerNegotiationClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                return new LocalConsumerNegotiationClientImpl(consumerConnector);
+    private ConsumerNegotiationClient createConsumerNegotiationClient(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.consumerNegotiationClient == null) {
+                if (useLocalConnector) {
+                    scope.consumerNegotiationClient = new LocalConsumerNegotiationClientImpl(scope.consumerConnector());
+                } else {
+                    var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
+                    assert callbackEndpoint != null;
+                    scope.consumerNegotiationClient = new HttpConsumerNegotiationClientImpl(
+                            connectorInitiateUrl,
+                            callbackEndpoint.getAddress(),
+                            monitor);
+                }
             }
-            var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-            assert callbackEndpoint != null;
-            return new HttpConsumerNegotiationClientImpl(
-                    connectorInitiateUrl,
-                    callbackEndpoint.getAddress(),
-                    monitor);
-        });
+            return scope.consumerNegotiationClient;
+        }
     }
 
-    private ConsumerTransferProcessPipeline createConsumerTransferProcessPipeline(ServiceConfiguration configuration, ServiceResolver resolver) {
-        var scopeId = configuration.getScopeId();
-        var transferClient = createConsumerTransferProcessClientClient(scopeId, configuration, resolver);
+    private ConsumerTransferProcessPipeline createConsumerTransferProcessPipeline(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        var transferClient = createConsumerTransferProcessClient(scope, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
         return new ConsumerTransferProcessPipelineImpl(transferClient,
                 callbackEndpoint,
-                providerConnector,
+                scope.providerConnector(),
                 connectorUnderTestId,
                 monitor,
                 waitTime);
     }
 
-    private ProviderTransferProcessPipeline createProviderTransferProcessPipeline(ServiceConfiguration configuration, ServiceResolver resolver) {
-        var scopeId = configuration.getScopeId();
-        var negotiationClient = createProviderTransferProcessClientClient(scopeId, configuration, resolver);
+    private ProviderTransferProcessPipeline createProviderTransferProcessPipeline(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        var transferClient = createProviderTransferProcessClient(scope);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
-        return new ProviderTransferProcessPipelineImpl(negotiationClient,
+        return new ProviderTransferProcessPipelineImpl(transferClient,
                 callbackEndpoint,
-                consumerConnector,
+                scope.consumerConnector(),
                 connectorProtocolUrl,
                 connectorUnderTestId,
                 monitor,
                 waitTime);
     }
 
-    private ConsumerTransferProcessClient createConsumerTransferProcessClientClient(String scopeId,
-                                                                                    ServiceConfiguration configuration,
-                                                                                    ServiceResolver resolver) {
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
-        return consumerTransferClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-                return new LocalConsumerTransferProcessClient(consumerConnector);
+    private ConsumerTransferProcessClient createConsumerTransferProcessClient(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.consumerTransferClient == null) {
+                if (useLocalConnector) {
+                    scope.consumerTransferClient = new LocalConsumerTransferProcessClient(scope.consumerConnector());
+                } else {
+                    var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
+                    assert callbackEndpoint != null;
+                    scope.consumerTransferClient = new HttpConsumerTransferProcessClient(
+                            connectorTransferInitiateUrl,
+                            callbackEndpoint.getAddress(),
+                            monitor);
+                }
             }
-            var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-            assert callbackEndpoint != null;
-            return new HttpConsumerTransferProcessClient(
-                    connectorTransferInitiateUrl,
-                    callbackEndpoint.getAddress(),
-                    monitor);
-        });
+            return scope.consumerTransferClient;
+        }
+    }
+
+    private ProviderTransferProcessClient createProviderTransferProcessClient(ScopeServices scope) {
+        synchronized (scope) {
+            if (scope.providerTransferClient == null) {
+                scope.providerTransferClient = useLocalConnector
+                        ? new LocalProviderTransferProcessClient(scope.providerConnector())
+                        : new HttpProviderTransferProcessClient(connectorProtocolUrl, monitor);
+            }
+            return scope.providerTransferClient;
+        }
     }
 
-    private ProviderTransferProcessClient createProviderTransferProcessClientClient(String scopeId,
-                                                                                    ServiceConfiguration configuration, ServiceResolver resolver) {
-        return providerTransferClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                return new LocalProviderTransferProcessClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+    private ConsumerTransferProcessMock createConsumerTransferProcessMock(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.consumerTransferMock == null) {
+                if (useLocalConnector) {
+                    var manager = scope.consumerConnector().getConsumerTransferProcessManager();
+                    var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
+                    @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
+                    scope.consumerTransferMock = new ConsumerTransferProcessMockImpl(manager, executor, address);
+                } else {
+                    scope.consumerTransferMock = new NoOpConsumerTransferProcessMock();
+                }
             }
-            return new HttpProviderTransferProcessClient(connectorProtocolUrl, monitor);
-        });
+            return scope.consumerTransferMock;
+        }
     }
 
-    private <T> T createConsumerTransferProcessMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
-        return type.cast(consumerTransferMocks.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                var manager = connector.getConsumerTransferProcessManager();
-                var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-                @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
-                return new ConsumerTransferProcessMockImpl(manager, executor, address);
-            } else {
-                return new NoOpConsumerTransferProcessMock();
+    private ProviderTransferProcessMock createProviderTransferProcessMock(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.providerTransferMock == null) {
+                if (useLocalConnector) {
+                    var manager = scope.providerConnector().getProviderTransferProcessManager();
+                    var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
+                    @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
+                    scope.providerTransferMock = new ProviderTransferProcessMockImpl(manager, executor, address);
+                } else {
+                    scope.providerTransferMock = new NoOpProviderTransferProcessMock();
+                }
             }
-        }));
+            return scope.providerTransferMock;
+        }
     }
 
-    private <T> T createProviderTransferProcessMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
-        return type.cast(providerTransferMocks.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
-                var manager = connector.getProviderTransferProcessManager();
-                var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-                @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
-                return new ProviderTransferProcessMockImpl(manager, executor, address);
-            } else {
-                return new NoOpProviderTransferProcessMock();
+    private CatalogClient createCatalogClient(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.catalogClient == null) {
+                scope.catalogClient = useLocalConnector
+                        ? new LocalCatalogClient(scope.providerConnector())
+                        : new HttpCatalogClient(connectorProtocolUrl, monitor);
             }
-        }));
+            return scope.catalogClient;
+        }
     }
 
-    private CatalogClient createCatalogClient(String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
-        return providerCatalogClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                return new LocalCatalogClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+    private MetadataClient createMetadataClient(ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver) {
+        synchronized (scope) {
+            if (scope.metadataClient == null) {
+                scope.metadataClient = useLocalConnector
+                        ? new LocalMetadataClient(scope.providerConnector())
+                        : new HttpMetadataClient(connectorBaseUrl, monitor);
             }
-            return new HttpCatalogClient(connectorProtocolUrl, monitor);
-        });
+            return scope.metadataClient;
+        }
     }
 
-    private MetadataClient createMetadataClient(String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
-        return providerMetadataClients.computeIfAbsent(scopeId, k -> {
-            if (useLocalConnector) {
-                return new LocalMetadataClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+    /**
+     * Creates a service of a registered type for a scope.
+     */
+    @FunctionalInterface
+    private interface ServiceFactory {
+        Object create(DspSystemLauncher launcher, ScopeServices scope, ServiceConfiguration configuration, ServiceResolver resolver);
+    }
+
+    /**
+     * The services of a scope. Services are created on first use while holding the container's lock and are released
+     * together when the scope is closed.
+     */
+    private static class ScopeServices {
+        private final Monitor monitor;
+        private final RetentionPolicy retentionPolicy;
+        private TckConnector consumerConnector;
+        private TckConnector providerConnector;
+        private ProviderNegotiationMock providerNegotiationMock;
+        private ConsumerNegotiationMock consumerNegotiationMock;
+        private ProviderNegotiationClient negotiationClient;
+        private ConsumerNegotiationClient consumerNegotiationClient;
+        private ProviderTransferProcessClient providerTransferClient;
+        private ConsumerTransferProcessClient consumerTransferClient;
+        private ConsumerTransferProcessMock consumerTransferMock;
+        private ProviderTransferProcessMock providerTransferMock;
+        private CatalogClient catalogClient;
+        private MetadataClient metadataClient;
+
+        ScopeServices(Monitor monitor, RetentionPolicy retentionPolicy) {
+            this.monitor = monitor;
+            this.retentionPolicy = retentionPolicy;
+        }
+
+        synchronized TckConnector consumerConnector() {
+            if (consumerConnector == null) {
+                consumerConnector = new TckConnector(monitor, retentionPolicy);
+            }
+            return consumerConnector;
+        }
+
+        synchronized TckConnector providerConnector() {
+            if (providerConnector == null) {
+                providerConnector = new TckConnector(monitor, retentionPolicy);
+            }
+            return providerConnector;
+        }
+
+        synchronized boolean hasConnectors() {
+            return consumerConnector != null || providerConnector != null;
+        }
+
+        synchronized TckConnector.Statistics getStatistics() {
+            var statistics = new TckConnector.Statistics(0, 0, 0);
+            if (consumerConnector != null) {
+                statistics = statistics.plus(consumerConnector.getStatistics());
+            }
+            if (providerConnector != null) {
+                statistics = statistics.plus(providerConnector.getStatistics());
+            }
+            return statistics;
+        }
+
+        /**
+         * Releases the services of the scope. Mocks discard their recorded actions and stop listening to the connectors,
+         * and clients and connectors are dropped so their state can be collected.
+         */
+        synchronized void close() {
+            if (providerNegotiationMock != null) {
+                providerNegotiationMock.close();
+            }
+            if (consumerNegotiationMock != null) {
+                consumerNegotiationMock.close();
             }
-            return new HttpMetadataClient(connectorBaseUrl, monitor);
-        });
+            if (providerTransferMock != null) {
+                providerTransferMock.close();
+            }
+            if (consumerTransferMock != null) {
+                consumerTransferMock.close();
+            }
+            providerNegotiationMock = null;
+            consumerNegotiationMock = null;
+            providerTransferMock = null;
+            consumerTransferMock = null;
+            negotiationClient = null;
+            consumerNegotiationClient = null;
+            providerTransferClient = null;
+            consumerTransferClient = null;
+            catalogClient = null;
+            metadataClient = null;
+            consumerConnector = null;
+            providerConnector = null;
+        }
     }
 }
@@ -14,15 +14,19 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.catalog.http;
 
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.client.catalog.CatalogClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 
 /**
  * HTTP client for the catalog.
@@ -41,16 +45,34 @@ public class HttpCatalogClient implements CatalogClient {
 
     @Override
     public Map<String, Object> getCatalog(Map<String, Object> message) {
-        try (var response = postJson(connectorUnderTestUrl + CATALOG_REQUEST_PATH, message, false)) {
+        return readCatalog(postJson(connectorUnderTestUrl + CATALOG_REQUEST_PATH, message, false));
+    }
+
+    @Override
+    public Map<String, Object> getDataset(String datasetId, boolean expectError) {
+        return readDataset(getJson(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getCatalogAsync(Map<String, Object> message) {
+        return postJsonAsync(connectorUnderTestUrl + CATALOG_REQUEST_PATH, message, false).thenApply(this::readCatalog);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getDatasetAsync(String datasetId, boolean expectError) {
+        return getJsonAsync(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError).thenApply(this::readDataset);
+    }
+
+    private Map<String, Object> readCatalog(Response response) {
+        try (response) {
             monitor.debug("Received catalog request response");
             //noinspection DataFlowIssue
             return processJsonLd(response.body().byteStream());
         }
     }
 
-    @Override
-    public Map<String, Object> getDataset(String datasetId, boolean expectError) {
-        try (var response = getJson(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError)) {
+    private Map<String, Object> readDataset(Response response) {
+        try (response) {
             monitor.debug("Received dataset request response");
             //noinspection DataFlowIssue
             return processJsonLd(response.body().byteStream());
@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Proxy to the consumer connector being verified for contract negotiation.
@@ -45,4 +48,13 @@ public interface ConsumerNegotiationClient extends NegotiationClient {
      * Retrieves the negotiation from the provider.
      */
     Map<String, Object> getNegotiation(String consumerId, String callbackAddress);
+
+    /**
+     * Retrieves the negotiation without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress) {
+        return supplyAsync(() -> getNegotiation(consumerId, callbackAddress), Runnable::run);
+    }
 }
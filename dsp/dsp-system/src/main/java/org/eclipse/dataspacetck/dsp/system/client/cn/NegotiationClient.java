@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.runAsync;
 
 public interface NegotiationClient {
 
@@ -22,4 +25,13 @@ public interface NegotiationClient {
      * Terminates the negotiation with the provider.
      */
     void terminate(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError);
+
+    /**
+     * Terminates the negotiation without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Void> terminateAsync(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError) {
+        return runAsync(() -> terminate(counterPartyId, termination, callbackAddress, expectError), Runnable::run);
+    }
 }
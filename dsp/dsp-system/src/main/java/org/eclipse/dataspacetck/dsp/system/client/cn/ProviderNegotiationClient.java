@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Proxy to the provider connector being verified for contract negotiation.
@@ -46,4 +49,22 @@ public interface ProviderNegotiationClient extends NegotiationClient {
      */
     Map<String, Object> getNegotiation(String processId);
 
+    /**
+     * Sends the contract request to the provider without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError) {
+        return supplyAsync(() -> contractRequest(message, counterPartyId, expectError), Runnable::run);
+    }
+
+    /**
+     * Retrieves the negotiation from the provider without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getNegotiationAsync(String processId) {
+        return supplyAsync(() -> getNegotiation(processId), Runnable::run);
+    }
+
 }
@@ -18,9 +18,11 @@ import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.cn.NegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 
 /**
  * Base negotiation client functionality.
@@ -39,4 +41,13 @@ public abstract class AbstractHttpNegotiationClient implements NegotiationClient
             monitor.debug("Received negotiation terminate response: " + counterPartyId);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> terminateAsync(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError) {
+        return postJsonAsync(format(TERMINATE_PATH, callbackAddress, counterPartyId), termination, expectError).thenAccept(response -> {
+            try (response) {
+                monitor.debug("Received negotiation terminate response: " + counterPartyId);
+            }
+        });
+    }
 }
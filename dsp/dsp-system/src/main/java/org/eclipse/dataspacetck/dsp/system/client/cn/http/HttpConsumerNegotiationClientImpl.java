@@ -14,14 +14,17 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.cn.http;
 
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.cn.ConsumerNegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
@@ -89,7 +92,16 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public Map<String, Object> getNegotiation(String consumerId, String callbackAddress) {
-        try (var response = getJson(format(GET_PATH, callbackAddress, consumerId))) {
+        return readNegotiation(getJson(format(GET_PATH, callbackAddress, consumerId)));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress) {
+        return getJsonAsync(format(GET_PATH, callbackAddress, consumerId)).thenApply(this::readNegotiation);
+    }
+
+    private Map<String, Object> readNegotiation(Response response) {
+        try (response) {
             //noinspection DataFlowIssue
             var jsonResponse = processJsonLd(response.body().byteStream());
             var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
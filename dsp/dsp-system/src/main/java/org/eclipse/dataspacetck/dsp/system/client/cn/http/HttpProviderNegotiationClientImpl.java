@@ -20,11 +20,14 @@ import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.client.cn.ProviderNegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
@@ -53,11 +56,12 @@ public class HttpProviderNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public Map<String, Object> contractRequest(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
-        try (var response = postJson(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError)) {
-            monitor.debug("Received contract request response");
-            //noinspection DataFlowIssue
-            return processJsonLd(response.body().byteStream());
-        }
+        return readContractRequestResponse(postJson(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
+        return postJsonAsync(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError).thenApply(this::readContractRequestResponse);
     }
 
     @Override
@@ -90,7 +94,24 @@ public class HttpProviderNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public Map<String, Object> getNegotiation(String providerPid) {
-        try (var response = getJson(providerConnectorBaseUrl + format(GET_PATH, providerPid))) {
+        return readNegotiation(getJson(providerConnectorBaseUrl + format(GET_PATH, providerPid)));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String providerPid) {
+        return getJsonAsync(providerConnectorBaseUrl + format(GET_PATH, providerPid)).thenApply(this::readNegotiation);
+    }
+
+    private Map<String, Object> readContractRequestResponse(Response response) {
+        try (response) {
+            monitor.debug("Received contract request response");
+            //noinspection DataFlowIssue
+            return processJsonLd(response.body().byteStream());
+        }
+    }
+
+    private Map<String, Object> readNegotiation(Response response) {
+        try (response) {
             //noinspection DataFlowIssue
             var jsonResponse = processJsonLd(response.body().byteStream());
             var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
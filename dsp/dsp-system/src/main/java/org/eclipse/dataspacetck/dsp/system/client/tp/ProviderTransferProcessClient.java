@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.client.tp;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Proxy to the provider connector being verified for transfer process.
@@ -26,4 +29,13 @@ public interface ProviderTransferProcessClient extends TransferProcessClient {
      */
     Map<String, Object> transferRequest(Map<String, Object> message, String counterPartyId, boolean expectError);
 
+    /**
+     * Sends a transfer request without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> transferRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError) {
+        return supplyAsync(() -> transferRequest(message, counterPartyId, expectError), Runnable::run);
+    }
+
 }
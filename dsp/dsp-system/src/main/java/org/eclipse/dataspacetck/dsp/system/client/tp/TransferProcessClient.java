@@ -15,6 +15,10 @@
 package org.eclipse.dataspacetck.dsp.system.client.tp;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Proxy to the provider connector being verified for transfer process.
@@ -67,4 +71,22 @@ public interface TransferProcessClient {
      * Retrieves the transfer process from the counter-party connector.
      */
     Map<String, Object> getTransferProcess(String counterPartyPid, String callbackAddress);
+
+    /**
+     * Sends a transfer terminate message without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Void> terminateTransferAsync(String counterPartyPid, Map<String, Object> terminationMessage, String callbackAddress, boolean expectError) {
+        return runAsync(() -> terminateTransfer(counterPartyPid, terminationMessage, callbackAddress, expectError), Runnable::run);
+    }
+
+    /**
+     * Retrieves the transfer process without blocking the calling thread.
+     * <p>
+     * The default implementation completes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getTransferProcessAsync(String counterPartyPid, String callbackAddress) {
+        return supplyAsync(() -> getTransferProcess(counterPartyPid, callbackAddress), Runnable::run);
+    }
 }
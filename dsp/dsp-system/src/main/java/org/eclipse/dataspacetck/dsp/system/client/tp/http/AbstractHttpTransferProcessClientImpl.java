@@ -14,15 +14,19 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.tp.http;
 
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.tp.TransferProcessClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
@@ -71,9 +75,27 @@ public abstract class AbstractHttpTransferProcessClientImpl implements TransferP
         }
     }
 
+    @Override
+    public CompletableFuture<Void> terminateTransferAsync(String counterPartyPid, Map<String, Object> terminationMessage, String callbackAddress, boolean expectError) {
+        return postJsonAsync(format(TERMINATION_PATH, callbackAddress, counterPartyPid), terminationMessage, expectError).thenAccept(response -> {
+            try (response) {
+                monitor.debug("Received termination request response");
+            }
+        });
+    }
+
     @Override
     public Map<String, Object> getTransferProcess(String counterPartyPid, String callbackAddress) {
-        try (var response = getJson(callbackAddress + format(GET_PATH, counterPartyPid))) {
+        return readTransferProcess(getJson(callbackAddress + format(GET_PATH, counterPartyPid)));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getTransferProcessAsync(String counterPartyPid, String callbackAddress) {
+        return getJsonAsync(callbackAddress + format(GET_PATH, counterPartyPid)).thenApply(this::readTransferProcess);
+    }
+
+    private Map<String, Object> readTransferProcess(Response response) {
+        try (response) {
             //noinspection DataFlowIssue
             var jsonResponse = processJsonLd(response.body().byteStream());
             var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
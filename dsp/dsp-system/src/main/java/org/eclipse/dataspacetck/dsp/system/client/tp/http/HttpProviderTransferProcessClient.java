@@ -14,13 +14,16 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.tp.http;
 
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.tp.ProviderTransferProcessClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 
 /**
  * Implementation of {@link ProviderTransferProcessClient} when running with remote connector
@@ -39,7 +42,16 @@ public class HttpProviderTransferProcessClient extends AbstractHttpTransferProce
 
     @Override
     public Map<String, Object> transferRequest(Map<String, Object> transferRequest, String counterPartyId, boolean expectError) {
-        try (var response = postJson(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError)) {
+        return readTransferRequestResponse(postJson(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> transferRequestAsync(Map<String, Object> transferRequest, String counterPartyId, boolean expectError) {
+        return postJsonAsync(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError).thenApply(this::readTransferRequestResponse);
+    }
+
+    private Map<String, Object> readTransferRequestResponse(Response response) {
+        try (response) {
             monitor.debug("Received transfer request response");
             //noinspection DataFlowIssue
             return processJsonLd(response.body().byteStream());
@@ -17,6 +17,7 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.NegotiationListener;
 import org.eclipse.dataspacetck.dsp.system.api.connector.NegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -28,6 +29,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 
 /**
@@ -36,16 +38,19 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 public abstract class AbstractNegotiationManager implements NegotiationManager {
     private final Monitor monitor;
     protected Map<String, ContractNegotiation> negotiations = new ConcurrentHashMap<>();
+    protected Map<String, ContractNegotiation> correlationIndex = new ConcurrentHashMap<>();
     protected Queue<NegotiationListener> listeners = new ConcurrentLinkedQueue<>();
+    protected final Retention<ContractNegotiation> retention;
 
-    protected AbstractNegotiationManager(Monitor monitor) {
+    protected AbstractNegotiationManager(Monitor monitor, RetentionPolicy retentionPolicy) {
         this.monitor = monitor;
+        this.retention = new Retention<>(retentionPolicy, this::evict);
     }
 
     @NotNull
     @Override
     public ContractNegotiation findById(String id) {
-        var negotiation = negotiations.get(id);
+        var negotiation = id != null ? negotiations.get(id) : null;
         if (negotiation == null) {
             throw new IllegalArgumentException("Contract negotiation not found for id: " + id);
         }
@@ -55,9 +60,16 @@ public abstract class AbstractNegotiationManager implements NegotiationManager {
     @Nullable
     @Override
     public ContractNegotiation findByCorrelationId(String id) {
-        return negotiations.values().stream()
-                .filter(n -> id.equals(n.getCorrelationId()))
-                .findAny().orElse(null);
+        var negotiation = correlationIndex.get(id);
+        if (negotiation == null) {
+            return null;
+        }
+        if (!id.equals(negotiation.getCorrelationId())) {
+            // the correlation id was replaced after the entry was indexed
+            correlationIndex.remove(id, negotiation);
+            return null;
+        }
+        return negotiation;
     }
 
     @Override
@@ -77,15 +89,55 @@ public abstract class AbstractNegotiationManager implements NegotiationManager {
 
 
     @Override
-    public Map<String, Object> handleTermination(Map<String, Object> terminatedMessage) {
-        var ids = parseId(terminatedMessage);
+    public Map<String, Object> handleTermination(ProcessMessage terminatedMessage) {
+        var ids = parseId(terminatedMessage.providerPid(), terminatedMessage.consumerPid());
         monitor.debug(format("Received terminated message: %s with correlation id %s", ids.id, ids.correlationId));
         var negotiation = findById(ids.id);
         negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(negotiation)));
         return createNegotiationResponse(negotiation.getCorrelationId(), negotiation.getId(), TERMINATED.toString());
     }
 
-    protected abstract NegotiationId parseId(Map<String, Object> message);
+    protected abstract NegotiationId parseId(String providerPid, String consumerPid);
+
+    /**
+     * Returns the number of negotiations evicted after reaching a final state.
+     */
+    public long getEvictedCount() {
+        return retention.getEvictedCount();
+    }
+
+    /**
+     * Stores the negotiation and indexes its correlation id. Negotiations must be built with {@link #index} as their
+     * correlation listener so the index follows later correlation id changes, and with {@link #transitioned} as their
+     * listener so they are evicted once they reach a final state.
+     */
+    protected void register(ContractNegotiation negotiation) {
+        retention.evict();
+        negotiations.put(negotiation.getId(), negotiation);
+        index(negotiation);
+    }
+
+    protected void index(ContractNegotiation negotiation) {
+        var correlationId = negotiation.getCorrelationId();
+        if (correlationId != null) {
+            correlationIndex.put(correlationId, negotiation);
+        }
+    }
+
+    protected void transitioned(ContractNegotiation.State oldState, ContractNegotiation negotiation) {
+        var state = negotiation.getState();
+        if (state == FINALIZED || state == TERMINATED) {
+            retention.retire(negotiation);
+        }
+    }
+
+    private void evict(ContractNegotiation negotiation) {
+        negotiations.remove(negotiation.getId(), negotiation);
+        var correlationId = negotiation.getCorrelationId();
+        if (correlationId != null) {
+            correlationIndex.remove(correlationId, negotiation);
+        }
+    }
 
     @Override
     public void terminated(String id) {
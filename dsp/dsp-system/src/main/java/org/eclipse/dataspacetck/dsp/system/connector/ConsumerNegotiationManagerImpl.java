@@ -17,13 +17,12 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ConsumerNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import java.util.Map;
 
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.NegotiationKind.Consumer;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
@@ -38,8 +37,8 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager implements ConsumerNegotiationManager {
     private final Monitor monitor;
 
-    public ConsumerNegotiationManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ConsumerNegotiationManagerImpl(Monitor monitor, RetentionPolicy retentionPolicy) {
+        super(monitor, retentionPolicy);
         this.monitor = monitor;
     }
 
@@ -48,13 +47,15 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
         var negotiationBuilder = ContractNegotiation.Builder.newInstance()
                 .datasetId(datasetId)
                 .offerId(offerId)
-                .negotiationKind(Consumer);
+                .negotiationKind(Consumer)
+                .correlationListener(this::index)
+                .listener(this::transitioned);
 
         if (callbackAddress != null) {
             negotiationBuilder.callbackAddress(callbackAddress);
         }
         var negotiation = negotiationBuilder.build();
-        negotiations.put(negotiation.getId(), negotiation);
+        register(negotiation);
         listeners.forEach(l -> l.contractInitialized(negotiation));
         return negotiation;
     }
@@ -91,37 +92,29 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
     }
 
     @Override
-    public Map<String, Object> handleOffer(Map<String, Object> offer) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, offer);
-        monitor.debug("Received provider offer: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, offer);
-        var negotiation = findById(consumerId);
-        negotiation.storeOffer(offer, OFFERED, n -> listeners.forEach(l -> l.offered(negotiation)));
+    public Map<String, Object> handleOffer(ProcessMessage offer) {
+        monitor.debug("Received provider offer: " + offer.providerPid());
+        var negotiation = findById(offer.consumerPid());
+        negotiation.storeOffer(offer.message(), OFFERED, n -> listeners.forEach(l -> l.offered(negotiation)));
         return createNegotiationResponse(negotiation.getCorrelationId(), negotiation.getId(), OFFERED.toString());
     }
 
     @Override
-    public void handleAgreement(Map<String, Object> agreement) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, agreement);
-        monitor.debug("Received provider agreement: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, agreement);
-        var negotiation = findById(consumerId);
-        negotiation.storeAgreement(agreement, n -> listeners.forEach(l -> l.agreed(negotiation)));
+    public void handleAgreement(ProcessMessage agreement) {
+        monitor.debug("Received provider agreement: " + agreement.providerPid());
+        var negotiation = findById(agreement.consumerPid());
+        negotiation.storeAgreement(agreement.message(), n -> listeners.forEach(l -> l.agreed(negotiation)));
     }
 
     @Override
-    public void handleFinalized(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event);
-        monitor.debug("Received provider finalize: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, event);
-        var negotiation = findById(consumerId);
+    public void handleFinalized(ContractNegotiationEventMessage event) {
+        monitor.debug("Received provider finalize: " + event.providerPid());
+        var negotiation = findById(event.consumerPid());
         negotiation.transition(ContractNegotiation.State.FINALIZED, n -> listeners.forEach(l -> l.finalized(negotiation)));
     }
 
     @Override
-    protected NegotiationId parseId(Map<String, Object> message) {
-        var providerPid = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
+    protected NegotiationId parseId(String providerPid, String consumerPid) {
         return new NegotiationId(consumerPid, providerPid);
     }
 }
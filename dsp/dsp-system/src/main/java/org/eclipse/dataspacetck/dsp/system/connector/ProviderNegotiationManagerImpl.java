@@ -17,6 +17,9 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractRequestMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,15 +28,7 @@ import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.dataspacetck.dsp.system.api.connector.IdGenerator.datasetIdFromOfferId;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_OFFER_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.compactStringProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.mapProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.NegotiationKind.Provider;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
@@ -49,14 +44,12 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
  */
 public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager implements ProviderNegotiationManager {
 
-    public ProviderNegotiationManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ProviderNegotiationManagerImpl(Monitor monitor, RetentionPolicy retentionPolicy) {
+        super(monitor, retentionPolicy);
     }
 
     @Override
-    protected NegotiationId parseId(Map<String, Object> message) {
-        var providerPid = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
+    protected NegotiationId parseId(String providerPid, String consumerPid) {
         return new NegotiationId(providerPid, consumerPid);
     }
 
@@ -79,62 +72,52 @@ public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager i
     }
 
     @Override
-    public Map<String, Object> handleContractRequest(Map<String, Object> contractRequest, String counterPartyId) {
+    public Map<String, Object> handleContractRequest(ContractRequestMessage contractRequest, String counterPartyId) {
         ContractNegotiation negotiation;
-        if (contractRequest.containsKey(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED)) {
-            // the message is a counter-offer
-            var processId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, contractRequest);
-            negotiation = handleCounterOffer(contractRequest, processId);
+        if (contractRequest.isCounterOffer()) {
+            negotiation = handleCounterOffer(contractRequest);
         } else {
-            // the message is an initial request
             negotiation = handleInitialRequest(contractRequest, counterPartyId);
         }
         return createNegotiationResponse(negotiation.getId(), negotiation.getCorrelationId(), negotiation.getState().toString());
     }
 
     @Override
-    public void handleAccepted(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event);
-        stringIdProperty(DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, event);
-        var negotiation = negotiations.get(providerId);
+    public void handleAccepted(ContractNegotiationEventMessage event) {
+        var negotiation = findById(event.providerPid());
         negotiation.transition(ACCEPTED, n -> listeners.forEach(l -> l.agreed(negotiation)));
     }
 
     @Override
-    public void handleVerified(Map<String, Object> verification) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, verification);
-        var negotiation = findById(providerId);
+    public void handleVerified(ProcessMessage verification) {
+        var negotiation = findById(verification.providerPid());
         // TODO verify message
         negotiation.transition(VERIFIED, n -> listeners.forEach(l -> l.verified(n)));
     }
 
     @Override
-    public void terminated(Map<String, Object> termination) {
-        var processId = requireNonNull(stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, termination));
-        var negotiation = negotiations.get(processId);
+    public void terminated(ProcessMessage termination) {
+        var negotiation = findById(termination.providerPid());
         negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(n)));
     }
 
     @NotNull
-    private ContractNegotiation handleCounterOffer(Map<String, Object> contractRequest, String processId) {
-        var negotiation = findById(processId);
-        var offer = mapProperty(DSPACE_PROPERTY_OFFER_EXPANDED, contractRequest);
-        negotiation.storeOffer(offer, REQUESTED, n -> listeners.forEach(l -> l.contractRequested(negotiation)));
+    private ContractNegotiation handleCounterOffer(ContractRequestMessage contractRequest) {
+        var negotiation = findById(contractRequest.providerPid());
+        negotiation.storeOffer(contractRequest.offer(), REQUESTED, n -> listeners.forEach(l -> l.contractRequested(negotiation)));
         return negotiation;
     }
 
     @NotNull
-    private ContractNegotiation handleInitialRequest(Map<String, Object> contractRequest, String counterPartyId) {
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, contractRequest);
+    private ContractNegotiation handleInitialRequest(ContractRequestMessage contractRequest, String counterPartyId) {
+        var consumerPid = contractRequest.consumerPid();
         var previousNegotiation = findByCorrelationId(consumerPid);
         if (previousNegotiation != null) {
             return previousNegotiation;
         }
 
-        var offer = mapProperty(DSPACE_PROPERTY_OFFER_EXPANDED, contractRequest);
-
-        var offerId = compactStringProperty(ID, offer);
-        var callbackAddress = stringProperty(DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED, contractRequest);
+        var offerId = requireNonNull(contractRequest.offerId(), "No value for: " + ID);
+        var callbackAddress = requireNonNull(contractRequest.callbackAddress(), "No value for: " + DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED);
 
         var negotiation = ContractNegotiation.Builder.newInstance()
                 .correlationId(consumerPid)
@@ -144,9 +127,11 @@ public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager i
                 .counterPartyId(counterPartyId)
                 .callbackAddress(callbackAddress)
                 .negotiationKind(Provider)
+                .correlationListener(this::index)
+                .listener(this::transitioned)
                 .build();
 
-        negotiations.put(negotiation.getId(), negotiation);
+        register(negotiation);
         listeners.forEach(l -> l.contractRequested(negotiation));
 
         return negotiation;
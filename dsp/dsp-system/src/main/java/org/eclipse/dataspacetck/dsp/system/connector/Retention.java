@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Tracks entities that have reached a final state and evicts them according to a {@link RetentionPolicy}.
+ * <p>
+ * Entities are evicted oldest first once they exceed the policy TTL or the number of retained entities exceeds the
+ * policy maximum. Eviction is performed by the caller's thread when an entity is retired or {@link #evict()} is invoked.
+ */
+public class Retention<T> {
+    private final RetentionPolicy policy;
+    private final Consumer<T> evictor;
+    private final Queue<Retired<T>> retired = new ConcurrentLinkedQueue<>();
+    private final Set<T> retiredEntities = ConcurrentHashMap.newKeySet();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Ctor.
+     *
+     * @param policy  the retention policy
+     * @param evictor removes an evicted entity from the owning stores
+     */
+    public Retention(RetentionPolicy policy, Consumer<T> evictor) {
+        this.policy = policy;
+        this.evictor = evictor;
+    }
+
+    /**
+     * Records that the entity has reached a final state and evicts entities exceeding the policy. Retiring an entity
+     * more than once has no effect.
+     */
+    public void retire(T entity) {
+        if (retiredEntities.add(entity)) {
+            retired.add(new Retired<>(entity, currentTimeMillis()));
+        }
+        evict();
+    }
+
+    /**
+     * Evicts retired entities that are older than the policy TTL or exceed the policy maximum.
+     */
+    public synchronized void evict() {
+        var now = currentTimeMillis();
+        var ttl = policy.ttl().toMillis();
+        var head = retired.peek();
+        while (head != null && (retiredEntities.size() > policy.maxRetained() || now - head.retiredAt() >= ttl)) {
+            retired.poll();
+            retiredEntities.remove(head.entity());
+            evictor.accept(head.entity());
+            evicted.increment();
+            head = retired.peek();
+        }
+    }
+
+    /**
+     * Returns the number of entities in a final state that are currently retained.
+     */
+    public int getRetainedCount() {
+        return retiredEntities.size();
+    }
+
+    /**
+     * Returns the number of entities evicted since creation.
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    private record Retired<T>(T entity, long retiredAt) {
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounds how long a connector retains negotiations and transfer processes that have reached a final state.
+ *
+ * @param ttl         the time an entity is retained after reaching a final state
+ * @param maxRetained the maximum number of entities in a final state that are retained
+ */
+public record RetentionPolicy(Duration ttl, int maxRetained) {
+
+    /**
+     * Retains all entities.
+     */
+    public static final RetentionPolicy UNBOUNDED = new RetentionPolicy(Duration.ofMillis(Long.MAX_VALUE), Integer.MAX_VALUE);
+
+    public RetentionPolicy {
+        requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || maxRetained < 0) {
+            throw new IllegalArgumentException("Retention ttl and count must not be negative");
+        }
+    }
+}
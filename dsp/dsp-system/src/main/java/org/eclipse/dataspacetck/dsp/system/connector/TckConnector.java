@@ -33,17 +33,21 @@ import java.util.Map;
  * Implements a simple, in-memory connector that supports control-plane operations for testing.
  */
 public class TckConnector implements Connector {
-    private final ProviderNegotiationManager providerNegotiationManager;
-    private final ConsumerNegotiationManager consumerNegotiationManager;
-    private final ConsumerTransferProcessManager consumerTransferProcessManager;
-    private final ProviderTransferProcessManager providerTransferProcessManager;
+    private final ProviderNegotiationManagerImpl providerNegotiationManager;
+    private final ConsumerNegotiationManagerImpl consumerNegotiationManager;
+    private final ConsumerTransferProcessManagerImpl consumerTransferProcessManager;
+    private final ProviderTransferProcessManagerImpl providerTransferProcessManager;
     private final CatalogManager catalogManager;
 
     public TckConnector(Monitor monitor) {
-        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor);
-        providerNegotiationManager = new ProviderNegotiationManagerImpl(monitor);
-        consumerTransferProcessManager = new ConsumerTransferProcessManagerImpl(monitor);
-        providerTransferProcessManager = new ProviderTransferProcessManagerImpl(monitor);
+        this(monitor, RetentionPolicy.UNBOUNDED);
+    }
+
+    public TckConnector(Monitor monitor, RetentionPolicy retentionPolicy) {
+        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor, retentionPolicy);
+        providerNegotiationManager = new ProviderNegotiationManagerImpl(monitor, retentionPolicy);
+        consumerTransferProcessManager = new ConsumerTransferProcessManagerImpl(monitor, retentionPolicy);
+        providerTransferProcessManager = new ProviderTransferProcessManagerImpl(monitor, retentionPolicy);
         catalogManager = new CatalogManagerImpl(monitor);
     }
 
@@ -67,9 +71,33 @@ public class TckConnector implements Connector {
         return providerTransferProcessManager;
     }
 
+    /**
+     * Returns the number of live and evicted negotiations and transfer processes held by this connector.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(
+                providerNegotiationManager.getNegotiations().size() + consumerNegotiationManager.getNegotiations().size(),
+                providerTransferProcessManager.getTransferProcessCount() + consumerTransferProcessManager.getTransferProcessCount(),
+                providerNegotiationManager.getEvictedCount() + consumerNegotiationManager.getEvictedCount() +
+                        providerTransferProcessManager.getEvictedCount() + consumerTransferProcessManager.getEvictedCount());
+    }
 
     @Override
     public Map<String, Object> getMetadata() {
         return Map.of("protocolVersions", List.of(Map.of("version", "2025-1", "path", "http://example.com/dsp/2025-1", "binding", "HTTPS")));
     }
+
+    /**
+     * Entity counts of a connector.
+     *
+     * @param negotiations      the number of live contract negotiations
+     * @param transferProcesses the number of live transfer processes
+     * @param evicted           the number of entities evicted after reaching a final state
+     */
+    public record Statistics(int negotiations, int transferProcesses, long evicted) {
+
+        public Statistics plus(Statistics other) {
+            return new Statistics(negotiations + other.negotiations, transferProcesses + other.transferProcesses, evicted + other.evicted);
+        }
+    }
 }
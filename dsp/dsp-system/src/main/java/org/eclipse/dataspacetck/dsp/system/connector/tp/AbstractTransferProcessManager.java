@@ -17,13 +17,15 @@ package org.eclipse.dataspacetck.dsp.system.connector.tp;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.TransferProcessListener;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.TransferProcessManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferStartMessage;
 import org.eclipse.dataspacetck.dsp.system.api.service.Result;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.connector.Retention;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,15 +34,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_DATA_ADDRESS_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTIES_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTY_NAME_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_PROPERTY_VALUE_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_ENDPOINT_TYPE_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.mapProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTransferErrorResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTransferResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.service.Result.ErrorType.CONFLICT;
@@ -55,24 +48,81 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 public abstract class AbstractTransferProcessManager implements TransferProcessManager {
     private final Monitor monitor;
     protected Map<String, TransferProcess> transferProcesses = new ConcurrentHashMap<>();
+    protected Map<String, TransferProcess> correlationIndex = new ConcurrentHashMap<>();
     protected Queue<TransferProcessListener> listeners = new ConcurrentLinkedQueue<>();
+    protected final Retention<TransferProcess> retention;
 
-    protected AbstractTransferProcessManager(Monitor monitor) {
+    protected AbstractTransferProcessManager(Monitor monitor, RetentionPolicy retentionPolicy) {
         this.monitor = monitor;
+        this.retention = new Retention<>(retentionPolicy, this::evict);
     }
 
     @NotNull
     @Override
     public TransferProcess findById(String id) {
-        return transferProcesses.get(id);
+        return id != null ? transferProcesses.get(id) : null;
     }
 
     @Nullable
     @Override
     public TransferProcess findByCorrelationId(String id) {
-        return transferProcesses.values().stream()
-                .filter(n -> id.equals(n.getCorrelationId()))
-                .findAny().orElse(null);
+        var transfer = correlationIndex.get(id);
+        if (transfer == null) {
+            return null;
+        }
+        if (!id.equals(transfer.getCorrelationId())) {
+            // the correlation id was replaced after the entry was indexed
+            correlationIndex.remove(id, transfer);
+            return null;
+        }
+        return transfer;
+    }
+
+    /**
+     * Returns the number of transfer processes currently held.
+     */
+    public int getTransferProcessCount() {
+        return transferProcesses.size();
+    }
+
+    /**
+     * Returns the number of transfer processes evicted after reaching a final state.
+     */
+    public long getEvictedCount() {
+        return retention.getEvictedCount();
+    }
+
+    /**
+     * Stores the transfer process and indexes its correlation id. Processes must be built with {@link #index} as their
+     * correlation listener so the index follows later correlation id changes, and with {@link #transitioned} as their
+     * listener so they are evicted once they reach a final state.
+     */
+    protected void register(TransferProcess transfer) {
+        retention.evict();
+        transferProcesses.put(transfer.getId(), transfer);
+        index(transfer);
+    }
+
+    protected void index(TransferProcess transfer) {
+        var correlationId = transfer.getCorrelationId();
+        if (correlationId != null) {
+            correlationIndex.put(correlationId, transfer);
+        }
+    }
+
+    protected void transitioned(TransferProcess.State oldState, TransferProcess transfer) {
+        var state = transfer.getState();
+        if (state == COMPLETED || state == TERMINATED) {
+            retention.retire(transfer);
+        }
+    }
+
+    private void evict(TransferProcess transfer) {
+        transferProcesses.remove(transfer.getId(), transfer);
+        var correlationId = transfer.getCorrelationId();
+        if (correlationId != null) {
+            correlationIndex.remove(correlationId, transfer);
+        }
     }
 
 
@@ -111,8 +161,8 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
     }
 
     @Override
-    public Result<Map<String, Object>, Map<String, Object>> handleCompletion(Map<String, Object> completionMessage) {
-        var ids = parseId(completionMessage);
+    public Result<Map<String, Object>, Map<String, Object>> handleCompletion(ProcessMessage completionMessage) {
+        var ids = parseId(completionMessage.providerPid(), completionMessage.consumerPid());
         monitor.debug(format("Received completion message: %s with correlation id %s", ids.id, ids.correlationId));
 
         var transfer = findById(ids.id);
@@ -123,8 +173,8 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
     }
 
     @Override
-    public Map<String, Object> handleTermination(Map<String, Object> terminatedMessage) {
-        var ids = parseId(terminatedMessage);
+    public Map<String, Object> handleTermination(ProcessMessage terminatedMessage) {
+        var ids = parseId(terminatedMessage.providerPid(), terminatedMessage.consumerPid());
         monitor.debug(format("Received terminated message: %s with correlation id %s", ids.id, ids.correlationId));
         var transfer = findById(ids.id);
         transfer.transition(TERMINATED, p -> listeners.forEach(l -> l.terminated(transfer)));
@@ -132,8 +182,8 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
     }
 
     @Override
-    public Result<Map<String, Object>, Map<String, Object>> handleSuspension(Map<String, Object> suspensionMessage) {
-        var ids = parseId(suspensionMessage);
+    public Result<Map<String, Object>, Map<String, Object>> handleSuspension(ProcessMessage suspensionMessage) {
+        var ids = parseId(suspensionMessage.providerPid(), suspensionMessage.consumerPid());
         monitor.debug(format("Received suspension message: %s with correlation id %s", ids.id, ids.correlationId));
         var transfer = findById(ids.id);
         return withStateTransition(transfer, tp -> {
@@ -143,11 +193,11 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
     }
 
     @Override
-    public Result<Map<String, Object>, Map<String, Object>> handleStart(Map<String, Object> startMessage, Predicate<TransferProcess.DataAddress> test) {
-        var ids = parseId(startMessage);
+    public Result<Map<String, Object>, Map<String, Object>> handleStart(TransferStartMessage startMessage, Predicate<TransferProcess.DataAddress> test) {
+        var ids = parseId(startMessage.providerPid(), startMessage.consumerPid());
         monitor.debug(format("Received start message: %s with correlation id %s", ids.id, ids.correlationId));
 
-        var dataAddress = toDataAddress(mapProperty(DSPACE_PROPERTY_DATA_ADDRESS_EXPANDED, startMessage, true));
+        var dataAddress = startMessage.dataAddress();
 
         if (!test.test(dataAddress)) {
             monitor.debug("Data address predicate failed");
@@ -156,46 +206,11 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
         var transfer = findById(ids.id);
 
         return withStateTransition(transfer, tp -> {
-            tp.setDataAddress(dataAddress);
-            tp.transition(STARTED, p -> listeners.forEach(l -> l.started(p)));
+            tp.storeDataAddress(dataAddress, STARTED, p -> listeners.forEach(l -> l.started(p)));
             return createTransferResponse(tp.providerPid(), tp.consumerPid(), STARTED.toString());
         });
     }
 
-    private TransferProcess.DataAddress toDataAddress(Map<String, Object> dataAddress) {
-        if (dataAddress == null) {
-            return null;
-        }
-
-        var endpointType = stringIdProperty(DSPACE_PROPERTY_ENDPOINT_TYPE_EXPANDED, dataAddress);
-
-        String endpoint = null;
-        if (dataAddress.get(DSPACE_PROPERTY_ENDPOINT_EXPANDED) != null) {
-            endpoint = stringProperty(DSPACE_PROPERTY_ENDPOINT_EXPANDED, dataAddress);
-        }
-        var endpointProperties = toEndpointProperties(dataAddress.get(DSPACE_PROPERTY_ENDPOINT_PROPERTIES_EXPANDED));
-        return new TransferProcess.DataAddress(endpointType, endpoint, endpointProperties);
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, String> toEndpointProperties(Object endpointProperties) {
-        if (endpointProperties == null) {
-            return Map.of();
-        }
-        var properties = new HashMap<String, String>();
-        if (endpointProperties instanceof List<?>) {
-            for (var property : (List<?>) endpointProperties) {
-                if (property instanceof Map<?, ?>) {
-                    var map = (Map<String, Object>) property;
-                    var name = stringProperty(DSPACE_PROPERTY_ENDPOINT_PROPERTY_NAME_EXPANDED, map);
-                    var value = stringProperty(DSPACE_PROPERTY_ENDPOINT_PROPERTY_VALUE_EXPANDED, map);
-                    properties.put(name, value);
-                }
-            }
-        }
-        return properties;
-    }
-
     protected Result<Map<String, Object>, Map<String, Object>> withStateTransition(TransferProcess tp, Function<TransferProcess, Map<String, Object>> stateTransition) {
         try {
             return Result.success(stateTransition.apply(tp));
@@ -204,7 +219,7 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
         }
     }
 
-    protected abstract TransferId parseId(Map<String, Object> message);
+    protected abstract TransferId parseId(String providerPid, String consumerPid);
 
     protected record TransferId(String id, String correlationId) {
     }
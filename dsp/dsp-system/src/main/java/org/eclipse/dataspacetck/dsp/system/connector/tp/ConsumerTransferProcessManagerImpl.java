@@ -17,12 +17,8 @@ package org.eclipse.dataspacetck.dsp.system.connector.tp;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ConsumerTransferProcessManager;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
 
-import java.util.Map;
-
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.TransferKind.Consumer;
 
@@ -33,8 +29,8 @@ public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessM
 
     private final Monitor monitor;
 
-    public ConsumerTransferProcessManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ConsumerTransferProcessManagerImpl(Monitor monitor, RetentionPolicy retentionPolicy) {
+        super(monitor, retentionPolicy);
         this.monitor = monitor;
     }
 
@@ -46,8 +42,10 @@ public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessM
                 .callbackAddress(providerBaseUrl)
                 .dataAddress(dataAddress)
                 .transferKind(Consumer)
+                .correlationListener(this::index)
+                .listener(this::transitioned)
                 .build();
-        transferProcesses.put(transferProcess.getId(), transferProcess);
+        register(transferProcess);
         listeners.forEach(l -> l.transferInitialized(transferProcess));
 
         return transferProcess;
@@ -56,15 +54,12 @@ public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessM
     @Override
     public void transferRequested(String consumerId, String providerId) {
         var transfer = findById(consumerId);
-        transfer.setCorrelationId(providerId);
-        transfer.transition(REQUESTED, p -> listeners.forEach(l -> l.requested(transfer)));
+        transfer.setCorrelationId(providerId, REQUESTED, p -> listeners.forEach(l -> l.requested(transfer)));
     }
 
 
     @Override
-    protected TransferId parseId(Map<String, Object> message) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new TransferId(consumerId, providerId);
+    protected TransferId parseId(String providerPid, String consumerPid) {
+        return new TransferId(consumerPid, providerPid);
     }
 }
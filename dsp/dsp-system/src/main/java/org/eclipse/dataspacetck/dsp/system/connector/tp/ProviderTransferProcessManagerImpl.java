@@ -16,44 +16,42 @@ package org.eclipse.dataspacetck.dsp.system.connector.tp;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ProviderTransferProcessManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferRequestMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
 
 import java.util.Map;
 
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTransferResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.TransferKind.Provider;
 
 public class ProviderTransferProcessManagerImpl extends AbstractTransferProcessManager implements ProviderTransferProcessManager {
     private final Monitor monitor;
 
-    public ProviderTransferProcessManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ProviderTransferProcessManagerImpl(Monitor monitor, RetentionPolicy retentionPolicy) {
+        super(monitor, retentionPolicy);
         this.monitor = monitor;
     }
 
     @Override
-    public Map<String, Object> handleTransferRequest(Map<String, Object> transferRequest, String counterPartyId) {
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, transferRequest);
+    public Map<String, Object> handleTransferRequest(TransferRequestMessage transferRequest, String counterPartyId) {
+        var consumerPid = transferRequest.consumerPid();
         monitor.debug("Received transfer request message with consumer pid: " + consumerPid);
 
         var prevTransfer = findByCorrelationId(consumerPid);
         if (prevTransfer != null) {
             return createTransferResponse(prevTransfer.getId(), prevTransfer.getCorrelationId(), prevTransfer.getState().toString());
         }
-        var callbackAddress = stringProperty(DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED, transferRequest);
         var transfer = TransferProcess.Builder.newInstance()
                 .correlationId(consumerPid)
                 .state(TransferProcess.State.REQUESTED)
-                .callbackAddress(callbackAddress)
+                .callbackAddress(transferRequest.callbackAddress())
                 .transferKind(Provider)
+                .correlationListener(this::index)
+                .listener(this::transitioned)
                 .build();
 
-        transferProcesses.put(transfer.getId(), transfer);
+        register(transfer);
         listeners.forEach(l -> l.requested(transfer));
 
         return createTransferResponse(transfer.getId(), transfer.getCorrelationId(), transfer.getState().toString());
@@ -61,9 +59,7 @@ public class ProviderTransferProcessManagerImpl extends AbstractTransferProcessM
     }
 
     @Override
-    protected TransferId parseId(Map<String, Object> message) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new TransferId(providerId, consumerId);
+    protected TransferId parseId(String providerPid, String consumerPid) {
+        return new TransferId(providerPid, consumerPid);
     }
 }
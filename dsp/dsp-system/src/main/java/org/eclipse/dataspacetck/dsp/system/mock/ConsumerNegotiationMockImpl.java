@@ -100,6 +100,12 @@ public class ConsumerNegotiationMockImpl extends AbstractNegotiationMock impleme
         manager.deregisterListener(this);
     }
 
+    @Override
+    public void close() {
+        reset();
+        manager.deregisterListener(this);
+    }
+
     private void received(ContractNegotiation.State state, ContractNegotiation negotiation) {
         var action = actions.getOrDefault(state, EMPTY_QUEUE).poll();
         if (action == null) {
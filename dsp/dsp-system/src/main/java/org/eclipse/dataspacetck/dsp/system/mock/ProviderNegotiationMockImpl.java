@@ -58,6 +58,12 @@ public class ProviderNegotiationMockImpl extends AbstractNegotiationMock impleme
         manager.deregisterListener(this);
     }
 
+    @Override
+    public void close() {
+        reset();
+        manager.deregisterListener(this);
+    }
+
     @Override
     public void contractRequested(ContractNegotiation negotiation) {
         var action = actions.getOrDefault(REQUESTED, EMPTY_QUEUE).poll();
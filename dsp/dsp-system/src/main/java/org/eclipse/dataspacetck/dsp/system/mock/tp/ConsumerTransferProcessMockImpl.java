@@ -46,6 +46,12 @@ public class ConsumerTransferProcessMockImpl extends AbstractTransferProcessMock
         manager.deregisterListener(this);
     }
 
+    @Override
+    public void close() {
+        reset();
+        manager.deregisterListener(this);
+    }
+
     @Override
     public void recordInitializedAction(BiConsumer<String, TransferProcess> action) {
         recordAction(INITIALIZED, tp -> {
@@ -45,6 +45,12 @@ public class ProviderTransferProcessMockImpl extends AbstractTransferProcessMock
         manager.deregisterListener(this);
     }
 
+    @Override
+    public void close() {
+        reset();
+        manager.deregisterListener(this);
+    }
+
     @Override
     public void recordTransferRequestedAction(Action action) {
         recordAction(REQUESTED, action);
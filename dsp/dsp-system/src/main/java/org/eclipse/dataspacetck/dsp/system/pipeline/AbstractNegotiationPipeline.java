@@ -42,6 +42,15 @@ public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<
         this.negotiationClient = negotiationClient;
     }
 
+    /**
+     * Sets the negotiation the pipeline operates on. Stages waiting for a state are woken when it transitions.
+     */
+    protected void track(ContractNegotiation negotiation) {
+        negotiation.registerListener((oldState, n) -> signal());
+        providerNegotiation = negotiation;
+        signal();
+    }
+
     public P thenWaitForState(ContractNegotiation.State state) {
         return thenWait("state to transition to " + state, () -> providerNegotiation != null && state == providerNegotiation.getState());
     }
@@ -69,7 +78,7 @@ public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<
     @Override
     public P sendTermination(boolean expectError) {
         stages.add(() -> {
-            pause();
+            awaitAcknowledged();
             var id = providerNegotiation.getId();
             var correlationId = providerNegotiation.getCorrelationId();
             var termination = createTermination(providerNegotiation.providerPid(), providerNegotiation.consumerPid(), "1");
@@ -76,7 +76,7 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
             providerConnector.getProviderNegotiationManager().registerListener(new NegotiationListener() {
                 @Override
                 public void contractRequested(ContractNegotiation negotiation) {
-                    ConsumerNegotiationPipelineImpl.this.providerNegotiation = negotiation;
+                    ConsumerNegotiationPipelineImpl.this.track(negotiation);
                     // Remove the listener
                     providerConnector.getProviderNegotiationManager().deregisterListener(this);
                 }
@@ -187,12 +187,14 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ConsumerNegotiationPipeline thenVerifyConsumerState(State state) {
         stages.add(() -> {
-            pause();
-            var callbackAddress = providerNegotiation.getCallbackAddress();
-            var processId = this.providerNegotiation.getCorrelationId();
-            var negotiation = negotiationClient.getNegotiation(processId, callbackAddress);
-            var actual = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiation);
-            assertEquals(DSPACE_NAMESPACE + state.toString(), actual);
+            var expected = DSPACE_NAMESPACE + state.toString();
+            var actual = awaitValue("consumer negotiation state to be " + state, () -> {
+                var callbackAddress = providerNegotiation.getCallbackAddress();
+                var processId = this.providerNegotiation.getCorrelationId();
+                var negotiation = negotiationClient.getNegotiation(processId, callbackAddress);
+                return stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiation);
+            }, expected::equals);
+            assertEquals(expected, actual);
         });
         return this;
     }
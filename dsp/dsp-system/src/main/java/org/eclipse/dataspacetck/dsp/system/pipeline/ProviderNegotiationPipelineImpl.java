@@ -39,6 +39,7 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctio
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createCounterOffer;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -74,7 +75,7 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
     @SuppressWarnings("unused")
     public ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId) {
         stages.add(() -> {
-            providerNegotiation = consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId, providerBaseUrl);
+            track(consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId, providerBaseUrl));
 
             var contractRequest = createContractRequest(providerNegotiation.getId(), offerId, datasetId, endpoint.getAddress());
 
@@ -133,7 +134,11 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ProviderNegotiationPipeline sendVerifiedEvent(boolean expectError) {
         stages.add(() -> {
-            pause();
+            if (expectError) {
+                awaitAcknowledged();
+            } else {
+                awaitProviderState(AGREED);
+            }
             var providerId = providerNegotiation.getCorrelationId();
             var consumerId = providerNegotiation.getId();
             monitor.debug("Sending verification: " + providerId);
@@ -183,14 +188,27 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ProviderNegotiationPipeline thenVerifyProviderState(State state) {
         stages.add(() -> {
-            pause();
-            var providerNegotiation = negotiationClient.getNegotiation(this.providerNegotiation.getCorrelationId());
-            var actual = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, providerNegotiation);
-            assertEquals(DSPACE_NAMESPACE + state.toString(), actual);
+            var expected = DSPACE_NAMESPACE + state.toString();
+            var actual = awaitValue("provider negotiation state to be " + state, this::getProviderState, expected::equals);
+            assertEquals(expected, actual);
         });
         return this;
     }
 
+    /**
+     * Waits until the provider reports the negotiation in the state, so a message sent next is not processed before the
+     * provider has applied its preceding transition.
+     */
+    private void awaitProviderState(State state) {
+        var expected = DSPACE_NAMESPACE + state.toString();
+        awaitReady("provider negotiation state to be " + state, () -> expected.equals(getProviderState()));
+    }
+
+    private String getProviderState() {
+        var negotiation = negotiationClient.getNegotiation(providerNegotiation.getCorrelationId());
+        return stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiation);
+    }
+
     @Override
     protected ProviderNegotiationPipeline self() {
         return this;
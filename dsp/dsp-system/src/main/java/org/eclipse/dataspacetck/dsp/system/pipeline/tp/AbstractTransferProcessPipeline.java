@@ -49,13 +49,22 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         this.transferProcessClient = transferProcessClient;
     }
 
+    /**
+     * Sets the transfer process the pipeline operates on. Stages waiting for a state are woken when it transitions.
+     */
+    protected void track(TransferProcess transfer) {
+        transfer.registerListener((oldState, tp) -> signal());
+        transferProcess = transfer;
+        signal();
+    }
+
     public P thenWaitForState(State state) {
         return thenWait("state to transition to " + state, () -> transferProcess != null && state == transferProcess.getState());
     }
 
     @Override
     public P thenPause() {
-        stages.add(this::pause);
+        stages.add(this::awaitAcknowledged);
         return self();
     }
 
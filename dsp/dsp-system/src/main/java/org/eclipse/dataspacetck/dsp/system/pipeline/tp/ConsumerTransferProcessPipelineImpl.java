@@ -60,7 +60,7 @@ public class ConsumerTransferProcessPipelineImpl extends AbstractTransferProcess
             providerConnector.getProviderTransferProcessManager().registerListener(new TransferProcessListener() {
                 @Override
                 public void requested(TransferProcess transferProcess) {
-                    ConsumerTransferProcessPipelineImpl.this.transferProcess = transferProcess;
+                    ConsumerTransferProcessPipelineImpl.this.track(transferProcess);
                     // Remove the listener
                     providerConnector.getProviderTransferProcessManager().deregisterListener(this);
                 }
@@ -51,7 +51,7 @@ public class ProviderTransferProcessPipelineImpl extends AbstractTransferProcess
     @Override
     public ProviderTransferProcessPipeline sendTransferRequest(String agreementId, String format, TransferProcess.DataAddress dataAddress) {
         stages.add(() -> {
-            transferProcess = consumerConnector.getConsumerTransferProcessManager().createTransferProcess(agreementId, format, providerBaseUrl, dataAddress);
+            track(consumerConnector.getConsumerTransferProcessManager().createTransferProcess(agreementId, format, providerBaseUrl, dataAddress));
             var contractRequest = createTransferRequest(transferProcess.getId(), transferProcess.getAgreementId(), transferProcess.getFormat(), transferProcess.getDataAddress(), endpoint.getAddress());
 
             monitor.debug("Sending transfer request");
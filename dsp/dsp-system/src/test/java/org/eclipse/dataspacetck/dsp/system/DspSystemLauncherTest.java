@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
+import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
+import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
+import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
+import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DspSystemLauncherTest {
+    private final ServiceResolver resolver = mock(ServiceResolver.class);
+    private DspSystemLauncher launcher;
+
+    @Test
+    void verifyCloseScopeReleasesServices() {
+        var configuration = ServiceConfiguration.Builder.newInstance().scopeId("scope1").build();
+        var negotiationMock = launcher.getService(ProviderNegotiationMock.class, configuration, resolver);
+        var connector = launcher.getService(Connector.class, configuration, resolver);
+        assertThat(negotiationMock).isNotNull();
+        negotiationMock.recordContractRequestedAction(negotiation -> { });
+        connector.getConsumerNegotiationManager().createNegotiation("urn:dataset", "urn:offer", "http://localhost/callback");
+
+        assertThat(negotiationMock.completed()).isFalse();
+        assertThat(launcher.getStatistics().negotiations()).isEqualTo(1);
+
+        launcher.closeScope("scope1");
+
+        assertThat(negotiationMock.completed()).isTrue();
+        assertThat(launcher.getStatistics().negotiations()).isZero();
+        assertThat(launcher.getService(ProviderNegotiationMock.class, configuration, resolver)).isNotSameAs(negotiationMock);
+        assertThat(launcher.getService(Connector.class, configuration, resolver)).isNotSameAs(connector);
+    }
+
+    @Test
+    void verifyCloseScopeKeepsOtherScopes() {
+        var first = ServiceConfiguration.Builder.newInstance().scopeId("scope1").build();
+        var second = ServiceConfiguration.Builder.newInstance().scopeId("scope2").build();
+        var firstMock = launcher.getService(ProviderNegotiationMock.class, first, resolver);
+        var secondMock = launcher.getService(ProviderNegotiationMock.class, second, resolver);
+        assertThat(secondMock).isNotNull();
+        secondMock.recordContractRequestedAction(negotiation -> { });
+
+        launcher.closeScope("scope1");
+
+        assertThat(secondMock.completed()).isFalse();
+        assertThat(launcher.getService(ProviderNegotiationMock.class, second, resolver)).isSameAs(secondMock);
+        assertThat(launcher.getService(ProviderNegotiationMock.class, first, resolver)).isNotSameAs(firstMock);
+    }
+
+    @BeforeEach
+    void setUp() {
+        launcher = new DspSystemLauncher();
+        launcher.start(SystemConfiguration.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .property("dataspacetck.dsp.local.connector", "true")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        launcher.close();
+    }
+}
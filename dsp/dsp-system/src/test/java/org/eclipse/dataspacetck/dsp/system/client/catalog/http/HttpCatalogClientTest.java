@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.client.catalog.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.http.HttpClientConfiguration;
+import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class HttpCatalogClientTest {
+    private static final String CONTEXT = "\"@context\": [\"https://w3id.org/dspace/2025/1/context.jsonld\"]";
+
+    private HttpServer server;
+    private HttpCatalogClient client;
+
+    @Test
+    void verifyGetCatalogAsync() {
+        var message = Map.<String, Object>of(
+                "@context", List.of("https://w3id.org/dspace/2025/1/context.jsonld"),
+                "@type", "CatalogRequestMessage");
+
+        assertThat(client.getCatalogAsync(message))
+                .succeedsWithin(10, SECONDS)
+                .satisfies(catalog -> assertThat(catalog).containsEntry("@id", "urn:catalog"));
+    }
+
+    @Test
+    void verifyGetDatasetsAsyncConcurrently() {
+        var futures = IntStream.range(0, 5)
+                .mapToObj(i -> client.getDatasetAsync("urn:dataset" + i, false))
+                .toList();
+
+        assertThat(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))).succeedsWithin(10, SECONDS);
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).join()).containsEntry("@id", "urn:dataset" + i);
+        }
+    }
+
+    @Test
+    void verifyGetDatasetAsyncFailsOnUnexpectedError() {
+        assertThat(client.getDatasetAsync("missing", false))
+                .failsWithin(10, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(AssertionError.class);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        HttpFunctions.initialize(HttpClientConfiguration.Builder.newInstance().build());
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/catalog/request", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, "{" + CONTEXT + ", \"@id\": \"urn:catalog\", \"@type\": \"Catalog\"}");
+        });
+        server.createContext("/catalog/datasets/", exchange -> {
+            var path = exchange.getRequestURI().getPath();
+            var id = path.substring(path.lastIndexOf('/') + 1);
+            if (id.startsWith("urn:dataset")) {
+                respond(exchange, 200, "{" + CONTEXT + ", \"@id\": \"" + id + "\", \"@type\": \"Dataset\"}");
+            } else {
+                respond(exchange, 404, "{}");
+            }
+        });
+        server.start();
+        client = new HttpCatalogClient("http://localhost:" + server.getAddress().getPort(), mock(Monitor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        HttpFunctions.close();
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        var bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (var stream = exchange.getResponseBody()) {
+            stream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.message.ProcessMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
+import static org.mockito.Mockito.mock;
+
+class ConsumerNegotiationManagerImplTest {
+    private static final RetentionPolicy EVICT_IMMEDIATELY = new RetentionPolicy(Duration.ZERO, 0);
+
+    @Test
+    void verifyFindByCorrelationId() {
+        var manager = new ConsumerNegotiationManagerImpl(mock(Monitor.class), RetentionPolicy.UNBOUNDED);
+        var negotiation = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+
+        manager.contractRequested(negotiation.getId(), "provider-1");
+
+        assertThat(manager.findByCorrelationId("provider-1")).isSameAs(negotiation);
+        assertThat(manager.findById(negotiation.getId())).isSameAs(negotiation);
+    }
+
+    @Test
+    void verifyIndexFollowsCorrelationIdChange() {
+        var manager = new ConsumerNegotiationManagerImpl(mock(Monitor.class), RetentionPolicy.UNBOUNDED);
+        var negotiation = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+        manager.contractRequested(negotiation.getId(), "provider-1");
+
+        negotiation.setCorrelationId("provider-2", OFFERED);
+
+        assertThat(manager.findByCorrelationId("provider-2")).isSameAs(negotiation);
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+        assertThat(manager.correlationIndex).containsOnlyKeys("provider-2");
+    }
+
+    @Test
+    void verifyTerminationWithoutProviderPid() {
+        var manager = new ConsumerNegotiationManagerImpl(mock(Monitor.class), RetentionPolicy.UNBOUNDED);
+        var negotiation = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+        manager.contractRequested(negotiation.getId(), "provider-1");
+
+        manager.handleTermination(new ProcessMessage(null, negotiation.getId(), Map.of()));
+
+        assertThat(negotiation.getState()).isEqualTo(TERMINATED);
+    }
+
+    @Test
+    void verifyFinalNegotiationEvicted() {
+        var manager = new ConsumerNegotiationManagerImpl(mock(Monitor.class), EVICT_IMMEDIATELY);
+        var negotiation = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+        manager.contractRequested(negotiation.getId(), "provider-1");
+
+        manager.terminated(negotiation.getId());
+
+        assertThat(manager.getNegotiations()).doesNotContainKey(negotiation.getId());
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+        assertThat(manager.correlationIndex).isEmpty();
+        assertThat(manager.getEvictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyActiveNegotiationRetained() {
+        var manager = new ConsumerNegotiationManagerImpl(mock(Monitor.class), EVICT_IMMEDIATELY);
+        var active = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+        manager.contractRequested(active.getId(), "provider-1");
+        var terminated = manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+        manager.terminated(terminated.getId());
+
+        manager.createNegotiation("dataset", "offer", "http://localhost/callback");
+
+        assertThat(manager.getNegotiations()).containsKey(active.getId()).doesNotContainKey(terminated.getId());
+        assertThat(manager.findByCorrelationId("provider-1")).isSameAs(active);
+        assertThat(active.getState()).isEqualTo(REQUESTED);
+    }
+}
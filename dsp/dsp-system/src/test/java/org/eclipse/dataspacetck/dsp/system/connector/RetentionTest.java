@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RetentionTest {
+    private final List<String> evicted = new ArrayList<>();
+
+    @Test
+    void verifyEvictedAfterTtl() {
+        var retention = new Retention<String>(new RetentionPolicy(Duration.ofMillis(100), Integer.MAX_VALUE), evicted::add);
+
+        retention.retire("first");
+
+        assertThat(evicted).isEmpty();
+        assertThat(retention.getRetainedCount()).isEqualTo(1);
+
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            retention.evict();
+            assertThat(evicted).containsExactly("first");
+        });
+        assertThat(retention.getRetainedCount()).isZero();
+        assertThat(retention.getEvictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyOldestEvictedAboveMaximum() {
+        var retention = new Retention<String>(new RetentionPolicy(Duration.ofHours(1), 2), evicted::add);
+
+        retention.retire("first");
+        retention.retire("second");
+        retention.retire("second");
+
+        assertThat(evicted).isEmpty();
+
+        retention.retire("third");
+        retention.retire("fourth");
+
+        assertThat(evicted).containsExactly("first", "second");
+        assertThat(retention.getRetainedCount()).isEqualTo(2);
+        assertThat(retention.getEvictedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyNonFinalEntitiesNotEvicted() {
+        Set<String> store = new HashSet<>(Set.of("active", "finalized"));
+        var retention = new Retention<String>(new RetentionPolicy(Duration.ZERO, 0), entity -> {
+            evicted.add(entity);
+            store.remove(entity);
+        });
+
+        retention.evict();
+
+        assertThat(store).containsExactlyInAnyOrder("active", "finalized");
+
+        retention.retire("finalized");
+        retention.evict();
+
+        assertThat(evicted).containsExactly("finalized");
+        assertThat(store).containsExactly("active");
+    }
+
+    @Test
+    void verifyUnboundedRetainsAll() {
+        var retention = new Retention<String>(RetentionPolicy.UNBOUNDED, evicted::add);
+
+        for (int i = 0; i < 100; i++) {
+            retention.retire("entity" + i);
+        }
+
+        assertThat(evicted).isEmpty();
+        assertThat(retention.getRetainedCount()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector.tp;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
+import static org.mockito.Mockito.mock;
+
+class ConsumerTransferProcessManagerImplTest {
+    private static final RetentionPolicy EVICT_IMMEDIATELY = new RetentionPolicy(Duration.ZERO, 0);
+
+    @Test
+    void verifyFindByCorrelationId() {
+        var manager = new ConsumerTransferProcessManagerImpl(mock(Monitor.class), RetentionPolicy.UNBOUNDED);
+        var transfer = manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+
+        manager.transferRequested(transfer.getId(), "provider-1");
+
+        assertThat(manager.findByCorrelationId("provider-1")).isSameAs(transfer);
+        assertThat(manager.findById(transfer.getId())).isSameAs(transfer);
+    }
+
+    @Test
+    void verifyIndexFollowsCorrelationIdChange() {
+        var manager = new ConsumerTransferProcessManagerImpl(mock(Monitor.class), RetentionPolicy.UNBOUNDED);
+        var transfer = manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+        manager.transferRequested(transfer.getId(), "provider-1");
+
+        transfer.setCorrelationId("provider-2");
+
+        assertThat(manager.findByCorrelationId("provider-2")).isSameAs(transfer);
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+        assertThat(manager.correlationIndex).containsOnlyKeys("provider-2");
+    }
+
+    @Test
+    void verifyFinalTransferProcessEvicted() {
+        var manager = new ConsumerTransferProcessManagerImpl(mock(Monitor.class), EVICT_IMMEDIATELY);
+        var transfer = manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+        manager.transferRequested(transfer.getId(), "provider-1");
+
+        manager.terminated(transfer.getId());
+
+        assertThat(manager.getTransferProcessCount()).isZero();
+        assertThat(manager.findByCorrelationId("provider-1")).isNull();
+        assertThat(manager.correlationIndex).isEmpty();
+        assertThat(manager.getEvictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyActiveTransferProcessRetained() {
+        var manager = new ConsumerTransferProcessManagerImpl(mock(Monitor.class), EVICT_IMMEDIATELY);
+        var active = manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+        manager.transferRequested(active.getId(), "provider-1");
+        var terminated = manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+        manager.transferRequested(terminated.getId(), "provider-2");
+        manager.terminated(terminated.getId());
+
+        manager.createTransferProcess("agreement", "HttpData-PULL", "http://localhost/provider", null);
+
+        assertThat(manager.getTransferProcessCount()).isEqualTo(2);
+        assertThat(manager.findById(active.getId())).isSameAs(active);
+        assertThat(manager.findByCorrelationId("provider-1")).isSameAs(active);
+        assertThat(active.getState()).isEqualTo(REQUESTED);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.mock;
+
+import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ProviderNegotiationMockImplTest {
+
+    @Test
+    void verifyCloseReleasesMock() {
+        var manager = mock(ProviderNegotiationManager.class);
+        var negotiationMock = new ProviderNegotiationMockImpl(manager, Runnable::run);
+        verify(manager).registerListener(negotiationMock);
+        negotiationMock.recordContractRequestedAction(negotiation -> { });
+
+        negotiationMock.close();
+
+        assertThat(negotiationMock.completed()).isTrue();
+        verify(manager).deregisterListener(negotiationMock);
+    }
+}
@@ -19,13 +19,14 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.awaitHandler;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createCompletion;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createStartRequest;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTermination;
 import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTransferRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeCompletion;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeStartRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeTermination;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
 
 /**
@@ -44,21 +45,21 @@ public class ConsumerActions {
     public static void postTransferRequest(String baseUrl, TransferProcess transferProcess) {
         var url = format(REQUEST_PATH, baseUrl);
         var transferRequest = createTransferRequest(transferProcess.getId(), transferProcess.getAgreementId(), transferProcess.getFormat(), transferProcess.getDataAddress(), baseUrl);
-        try (var response = postJson(url, transferRequest)) {
+        try (var response = post(url, transferRequest)) {
             // get the response and update the negotiation with the provider process id
             checkResponse(response);
             assert response.body() != null;
             var jsonResponse = processJsonLd(response.body().byteStream());
             var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
-            transferProcess.setCorrelationId(providerId);
-            transferProcess.transition(REQUESTED);
+            transferProcess.setCorrelationId(providerId, REQUESTED, tp -> {
+            });
         }
     }
 
     public static void postTerminate(String baseUrl, TransferProcess transferProcess) {
-        var termination = createTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
+        var termination = serializeTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
         transferProcess.transition(TransferProcess.State.TERMINATED);
-        try (var response = postJson(format(TRANSFER_TERMINATION_PATH, baseUrl, transferProcess.getCorrelationId()), termination)) {
+        try (var response = post(format(TRANSFER_TERMINATION_PATH, baseUrl, transferProcess.getCorrelationId()), termination)) {
             checkResponse(response);
         }
     }
@@ -68,30 +69,30 @@ public class ConsumerActions {
     }
 
     public static void postComplete(String baseUrl, TransferProcess transferProcess, boolean expectError) {
-        var completion = createCompletion(transferProcess.providerPid(), transferProcess.consumerPid());
+        var completion = serializeCompletion(transferProcess.providerPid(), transferProcess.consumerPid());
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.COMPLETED);
         }
-        try (var response = postJson(format(TRANSFER_COMPLETION_PATH, baseUrl, transferProcess.getCorrelationId()), completion, expectError)) {
+        try (var response = post(format(TRANSFER_COMPLETION_PATH, baseUrl, transferProcess.getCorrelationId()), completion, expectError)) {
             checkResponse(response, expectError);
         }
     }
 
     public static void postSuspend(String baseUrl, TransferProcess transferProcess) {
-        var suspension = createTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
+        var suspension = serializeTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
         transferProcess.transition(TransferProcess.State.SUSPENDED);
-        try (var response = postJson(format(TRANSFER_SUSPENSION_PATH, baseUrl, transferProcess.getCorrelationId()), suspension)) {
+        try (var response = post(format(TRANSFER_SUSPENSION_PATH, baseUrl, transferProcess.getCorrelationId()), suspension)) {
             checkResponse(response);
         }
     }
 
     public static void postSuspend(String baseUrl, TransferProcess transferProcess, boolean expectError) {
-        var suspension = createTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
+        var suspension = serializeTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
 
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.SUSPENDED);
         }
-        try (var response = postJson(format(TRANSFER_SUSPENSION_PATH, baseUrl, transferProcess.getCorrelationId()), suspension, expectError)) {
+        try (var response = post(format(TRANSFER_SUSPENSION_PATH, baseUrl, transferProcess.getCorrelationId()), suspension, expectError)) {
             checkResponse(response, expectError);
         }
     }
@@ -101,12 +102,12 @@ public class ConsumerActions {
     }
 
     public static void postStartTransfer(String baseUrl, TransferProcess transferProcess, boolean expectError) {
-        var message = createStartRequest(transferProcess.providerPid(), transferProcess.consumerPid(), null);
+        var message = serializeStartRequest(transferProcess.providerPid(), transferProcess.consumerPid(), null);
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.STARTED);
         }
         var url = format(TRANSFER_START_PATH, baseUrl, transferProcess.getCorrelationId());
-        try (var response = postJson(url, message, expectError)) {
+        try (var response = post(url, message, expectError)) {
             checkResponse(response, expectError);
         }
     }
@@ -119,6 +120,21 @@ public class ConsumerActions {
         }
     }
 
+    private static Response post(String url, Object message) {
+        return post(url, message, false);
+    }
+
+    /**
+     * Posts the message once the TCK has registered the handler expecting it. Messages expected to fail are posted
+     * immediately, since the missing handler may be the expected error.
+     */
+    private static Response post(String url, Object message, boolean expectError) {
+        if (!expectError) {
+            awaitHandler(url);
+        }
+        return postJson(url, message, expectError);
+    }
+
     private static void checkResponse(Response response) {
         checkResponse(response, false);
     }
@@ -18,10 +18,11 @@ import okhttp3.Response;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.awaitHandler;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createCompletion;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createStartRequest;
-import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeCompletion;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeStartRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferTemplates.serializeTermination;
 
 /**
  * Actions taken by a provider that execute after receiving a message from the consumer.
@@ -38,21 +39,21 @@ public class ProviderActions {
     }
 
     public static void postStartTransfer(TransferProcess transferProcess, boolean expectError) {
-        var message = createStartRequest(transferProcess.providerPid(), transferProcess.consumerPid(), null);
+        var message = serializeStartRequest(transferProcess.providerPid(), transferProcess.consumerPid(), null);
 
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.STARTED);
         }
         var url = format(TRANSFER_START_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId());
-        try (var response = postJson(url, message, expectError)) {
+        try (var response = post(url, message, expectError)) {
             checkResponse(response, expectError);
         }
     }
 
     public static void postTerminate(TransferProcess transferProcess) {
-        var termination = createTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
+        var termination = serializeTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
         transferProcess.transition(TransferProcess.State.TERMINATED);
-        try (var response = postJson(format(TRANSFER_TERMINATION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), termination)) {
+        try (var response = post(format(TRANSFER_TERMINATION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), termination)) {
             checkResponse(response, false);
         }
     }
@@ -62,11 +63,11 @@ public class ProviderActions {
     }
 
     public static void postComplete(TransferProcess transferProcess, boolean expectError) {
-        var completion = createCompletion(transferProcess.providerPid(), transferProcess.consumerPid());
+        var completion = serializeCompletion(transferProcess.providerPid(), transferProcess.consumerPid());
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.COMPLETED);
         }
-        try (var response = postJson(format(TRANSFER_COMPLETION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), completion, expectError)) {
+        try (var response = post(format(TRANSFER_COMPLETION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), completion, expectError)) {
             checkResponse(response, expectError);
         }
     }
@@ -76,16 +77,31 @@ public class ProviderActions {
     }
 
     public static void postSuspend(TransferProcess transferProcess, boolean expectError) {
-        var suspension = createTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
+        var suspension = serializeTermination(transferProcess.providerPid(), transferProcess.consumerPid(), "1");
 
         if (!expectError) {
             transferProcess.transition(TransferProcess.State.SUSPENDED);
         }
-        try (var response = postJson(format(TRANSFER_SUSPENSION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), suspension, expectError)) {
+        try (var response = post(format(TRANSFER_SUSPENSION_PATH, transferProcess.getCallbackAddress(), transferProcess.getCorrelationId()), suspension, expectError)) {
             checkResponse(response, expectError);
         }
     }
 
+    private static Response post(String url, Object message) {
+        return post(url, message, false);
+    }
+
+    /**
+     * Posts the message once the TCK has registered the handler expecting it. Messages expected to fail are posted
+     * immediately, since the missing handler may be the expected error.
+     */
+    private static Response post(String url, Object message, boolean expectError) {
+        if (!expectError) {
+            awaitHandler(url);
+        }
+        return postJson(url, message, expectError);
+    }
+
     private static void checkResponse(Response response, boolean expectError) {
         if (expectError && response.isSuccessful()) {
             throw new AssertionError("Expected error response but got: " + response.code());
@@ -93,12 +109,4 @@ public class ProviderActions {
             throw new AssertionError("Unexpected response code: " + response.code());
         }
     }
-
-    public static void pause() {
-        try {
-            Thread.sleep(200);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-    }
 }
@@ -31,7 +31,6 @@ import static org.eclipse.dataspacetck.dsp.verification.tp.ConsumerActions.postS
 import static org.eclipse.dataspacetck.dsp.verification.tp.ConsumerActions.postSuspend;
 import static org.eclipse.dataspacetck.dsp.verification.tp.ConsumerActions.postTerminate;
 import static org.eclipse.dataspacetck.dsp.verification.tp.ConsumerActions.postTransferRequest;
-import static org.eclipse.dataspacetck.dsp.verification.tp.ProviderActions.pause;
 
 @Tag("base-compliance")
 @DisplayName("TP_C_02: Transfer request consumer scenarios")
@@ -130,7 +129,6 @@ public class TransferProcessConsumer02Test extends AbstractTransferProcessConsum
         transferProcessMock.recordInitializedAction(ConsumerActions::postTransferRequest);
         transferProcessMock.recordStartedAction((url, tp) -> {
             postSuspend(url, tp);
-            pause();
             postTerminate(url, tp);
         });
 
@@ -177,9 +175,7 @@ public class TransferProcessConsumer02Test extends AbstractTransferProcessConsum
         transferProcessMock.recordInitializedAction(ConsumerActions::postTransferRequest);
         transferProcessMock.recordStartedAction((url, tp) -> {
             postSuspend(url, tp);
-            pause();
             postStartTransfer(url, tp);
-            pause();
             postComplete(url, tp);
         });
 
@@ -218,7 +214,6 @@ public class TransferProcessConsumer02Test extends AbstractTransferProcessConsum
 
         transferProcessMock.recordInitializedAction((url, tp) -> {
             postTransferRequest(url, tp);
-            pause();
             postTerminate(url, tp);
         });
 
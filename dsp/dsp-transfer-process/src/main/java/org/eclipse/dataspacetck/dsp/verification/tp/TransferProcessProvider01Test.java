@@ -23,7 +23,6 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.STARTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.SUSPENDED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.TERMINATED;
-import static org.eclipse.dataspacetck.dsp.verification.tp.ProviderActions.pause;
 import static org.eclipse.dataspacetck.dsp.verification.tp.ProviderActions.postComplete;
 import static org.eclipse.dataspacetck.dsp.verification.tp.ProviderActions.postStartTransfer;
 import static org.eclipse.dataspacetck.dsp.verification.tp.ProviderActions.postSuspend;
@@ -52,7 +51,6 @@ public class TransferProcessProvider01Test extends AbstractTransferProcessProvid
 
         transferProcessMock.recordTransferRequestedAction(transferProcess -> {
             postStartTransfer(transferProcess);
-            pause();
             postTerminate(transferProcess);
         });
 
@@ -87,7 +85,6 @@ public class TransferProcessProvider01Test extends AbstractTransferProcessProvid
 
         transferProcessMock.recordTransferRequestedAction(transferProcess -> {
             postStartTransfer(transferProcess);
-            pause();
             postComplete(transferProcess);
         });
 
@@ -125,9 +122,7 @@ public class TransferProcessProvider01Test extends AbstractTransferProcessProvid
 
         transferProcessMock.recordTransferRequestedAction(transferProcess -> {
             postStartTransfer(transferProcess);
-            pause();
             postSuspend(transferProcess);
-            pause();
             postTerminate(transferProcess);
         });
 
@@ -171,11 +166,8 @@ public class TransferProcessProvider01Test extends AbstractTransferProcessProvid
 
         transferProcessMock.recordTransferRequestedAction(transferProcess -> {
             postStartTransfer(transferProcess);
-            pause();
             postSuspend(transferProcess);
-            pause();
             postStartTransfer(transferProcess);
-            pause();
             postComplete(transferProcess);
         });
 
@@ -166,7 +166,6 @@ public class TransferProcessProvider02Test extends AbstractTransferProcessProvid
                 .thenVerifyProviderState(STARTED)
                 .sendSuspension()
                 .thenWaitForState(SUSPENDED)
-                .thenPause()
                 .thenVerifyProviderState(SUSPENDED)
                 .sendStarted()
                 .thenWaitForState(STARTED)
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.core.system.DefaultMetrics;
+import org.eclipse.dataspacetck.core.system.LatencyHistogram;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+
+/**
+ * Outputs the metrics recorded during a run to the console.
+ * <p>
+ * Round-trip times of requests sent to the connector under test are reported under {@code http}, the time spent in
+ * callback handlers under {@code callback} and message processing under {@code serializer}.
+ */
+public class ConsoleMetricsWriter {
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final String ROW = "%-60s %8s %9s %9s %9s %9s %9s %9s";
+
+    private final Monitor monitor;
+
+    public ConsoleMetricsWriter(Monitor monitor) {
+        this.monitor = monitor;
+    }
+
+    public void output(DefaultMetrics metrics) {
+        output(metrics, null);
+    }
+
+    /**
+     * Outputs the summary of a load run followed by its metrics, including the rate per second of each timer and counter.
+     */
+    public void output(LoadSummary summary) {
+        monitor.message(format("Load run: %d scenarios in %.1f s, %.2f per second, %d failed (%.2f%%)",
+                summary.iterations(),
+                summary.elapsed().toMillis() / 1000d,
+                summary.throughput(),
+                summary.failures(),
+                summary.errorRate() * 100));
+        output(summary.metrics(), summary.elapsed());
+    }
+
+    private void output(DefaultMetrics metrics, @Nullable Duration elapsed) {
+        var timers = metrics.getTimers();
+        var histograms = metrics.getHistograms();
+        var counters = metrics.getCounters();
+        if (!timers.isEmpty()) {
+            monitor.message(format(ROW, "Timers (ms)", "count", "per s", "mean", "p50", "p90", "p99", "max"));
+            timers.forEach((name, snapshot) -> monitor.message(row(name, snapshot, NANOS_PER_MILLI, elapsed)));
+        }
+        if (!histograms.isEmpty()) {
+            monitor.message(format(ROW, "Histograms", "count", "per s", "mean", "p50", "p90", "p99", "max"));
+            histograms.forEach((name, snapshot) -> monitor.message(row(name, snapshot, 1, elapsed)));
+        }
+        if (!counters.isEmpty()) {
+            monitor.message(format("%-60s %8s %9s", "Counters", "count", "per s"));
+            counters.forEach((name, count) -> monitor.message(format("%-60s %8d %9s", name, count, rate(count, elapsed))));
+        }
+    }
+
+    private static String row(String name, LatencyHistogram.Snapshot snapshot, double scale, @Nullable Duration elapsed) {
+        return format(ROW, name, snapshot.count(),
+                rate(snapshot.count(), elapsed),
+                decimal(snapshot.mean() / scale),
+                decimal(snapshot.p50() / scale),
+                decimal(snapshot.p90() / scale),
+                decimal(snapshot.p99() / scale),
+                decimal(snapshot.max() / scale));
+    }
+
+    private static String rate(long count, @Nullable Duration elapsed) {
+        if (elapsed == null || elapsed.isZero()) {
+            return "-";
+        }
+        return decimal(count * 1_000_000_000d / elapsed.toNanos());
+    }
+
+    private static String decimal(double value) {
+        return format("%.2f", value);
+    }
+}
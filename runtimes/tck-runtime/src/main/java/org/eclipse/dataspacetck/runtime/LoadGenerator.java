@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.eclipse.dataspacetck.core.system.DefaultMetrics;
+import org.eclipse.dataspacetck.core.system.SystemBootstrapExtension;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.System.nanoTime;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.metricName;
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.useMetrics;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_SCOPED;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+
+/**
+ * Repeats the tests selected by a discovery request as load scenarios according to a {@link LoadProfile}.
+ * <p>
+ * Each scenario iteration is a separate launcher execution of a single test. Iterations receive their own service
+ * scope and callback path, so every iteration drives a fresh DSP exchange with new process ids, and iterations of the
+ * same test may run concurrently. The system under test is started by the first iteration and kept running until the
+ * run completes.
+ */
+class LoadGenerator {
+    private static final String SCENARIO_METRIC = "scenario";
+    private static final String FAILED_METRIC = "scenario.failed";
+
+    private final LoadProfile profile;
+    private final DefaultMetrics metrics = new DefaultMetrics();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong issued = new AtomicLong();
+
+    LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    LoadSummary run(LauncherDiscoveryRequest discovery) {
+        var scenarios = discoverScenarios(discovery);
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No tests selected for the load run");
+        }
+        var executor = Executors.newFixedThreadPool(profile.getConcurrency());
+        var start = nanoTime();
+        var deadline = start + profile.getDuration().toNanos();
+        var interval = profile.getRate() > 0 ? (long) (1_000_000_000d / profile.getRate()) : 0;
+        useMetrics(metrics);
+        SystemBootstrapExtension.retain();
+        try {
+            var workers = new ArrayList<Future<?>>();
+            for (int i = 0; i < profile.getConcurrency(); i++) {
+                workers.add(executor.submit(() -> runScenarios(scenarios, start, interval, deadline)));
+            }
+            for (var worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            SystemBootstrapExtension.release();
+            useMetrics(null);
+        }
+        return new LoadSummary(iterations.sum(), failures.sum(), Duration.ofNanos(nanoTime() - start), metrics);
+    }
+
+    private void runScenarios(List<Scenario> scenarios, long start, long interval, long deadline) {
+        var launcher = LauncherFactory.create();
+        while (!Thread.currentThread().isInterrupted()) {
+            var sequence = issued.getAndIncrement();
+            var scheduled = interval > 0 ? start + sequence * interval : nanoTime();
+            if (scheduled >= deadline) {
+                return;
+            }
+            parkUntil(scheduled);
+
+            var scenario = scenarios.get((int) (sequence % scenarios.size()));
+            var listener = new SummaryGeneratingListener();
+            var scenarioStart = nanoTime();
+            launcher.execute(scenario.request(), listener);
+            metrics.recordSince(metricName(SCENARIO_METRIC, scenario.name()), scenarioStart);
+            iterations.increment();
+
+            var summary = listener.getSummary();
+            if (summary.getTotalFailureCount() > 0 || summary.getTestsSucceededCount() == 0) {
+                failures.increment();
+                metrics.increment(metricName(FAILED_METRIC, scenario.name()));
+            }
+        }
+    }
+
+    private List<Scenario> discoverScenarios(LauncherDiscoveryRequest discovery) {
+        var plan = LauncherFactory.create().discover(discovery);
+        var scenarios = new ArrayList<Scenario>();
+        for (var root : plan.getRoots()) {
+            plan.getDescendants(root).stream()
+                    .filter(TestIdentifier::isTest)
+                    .map(this::toScenario)
+                    .forEach(scenarios::add);
+        }
+        return scenarios;
+    }
+
+    private Scenario toScenario(TestIdentifier identifier) {
+        var request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectUniqueId(identifier.getUniqueId()))
+                .configurationParameter(TCK_CALLBACK_SCOPED, "true")
+                .build();
+        return new Scenario(identifier.getDisplayName(), request);
+    }
+
+    private static void parkUntil(long time) {
+        long remaining;
+        while ((remaining = time - nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private record Scenario(String name, LauncherDiscoveryRequest request) {
+    }
+}
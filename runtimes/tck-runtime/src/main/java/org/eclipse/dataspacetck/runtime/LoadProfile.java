@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configures a load run, in which the selected tests are repeated as scenarios against the connector under test.
+ * <p>
+ * Scenarios are executed by a fixed number of concurrent workers for the configured duration. Without a rate, each
+ * worker starts the next scenario as soon as the previous one completes. With a rate, scenario starts are spread
+ * evenly across the run and the concurrency bounds the number of scenarios in flight.
+ */
+public class LoadProfile {
+    private int concurrency = 1;
+    private double rate;
+    private Duration duration = Duration.ofMinutes(1);
+
+    private LoadProfile() {
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Returns the target number of scenarios started per second, or 0 if unlimited.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public static class Builder {
+        private final LoadProfile profile;
+
+        private Builder() {
+            profile = new LoadProfile();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder concurrency(int concurrency) {
+            profile.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder rate(double rate) {
+            profile.rate = rate;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            profile.duration = duration;
+            return this;
+        }
+
+        public LoadProfile build() {
+            requireNonNull(profile.duration, "duration");
+            if (profile.concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be at least 1: " + profile.concurrency);
+            }
+            if (profile.rate < 0) {
+                throw new IllegalArgumentException("Rate must not be negative: " + profile.rate);
+            }
+            if (profile.duration.isNegative() || profile.duration.isZero()) {
+                throw new IllegalArgumentException("Duration must be positive: " + profile.duration);
+            }
+            return profile;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.eclipse.dataspacetck.core.system.DefaultMetrics;
+
+import java.time.Duration;
+
+/**
+ * The result of a load run.
+ *
+ * @param iterations the number of scenarios executed
+ * @param failures   the number of scenarios that failed or were aborted
+ * @param elapsed    the duration of the run
+ * @param metrics    the metrics recorded during the run, including the latency of each scenario and protocol step
+ */
+public record LoadSummary(long iterations, long failures, Duration elapsed, DefaultMetrics metrics) {
+
+    /**
+     * Returns the number of scenarios executed per second.
+     */
+    public double throughput() {
+        return elapsed.isZero() ? 0 : iterations * 1_000_000_000d / elapsed.toNanos();
+    }
+
+    /**
+     * Returns the fraction of scenarios that failed.
+     */
+    public double errorRate() {
+        return iterations == 0 ? 0 : (double) failures / iterations;
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.dataspacetck.runtime;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.spi.system.SystemLauncher;
+import org.eclipse.dataspacetck.core.system.DefaultMetrics;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.launcher.PostDiscoveryFilter;
@@ -30,51 +31,111 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import static org.eclipse.dataspacetck.core.api.system.MetricsFunctions.useMetrics;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_SCOPED;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
 import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
 
 /**
- * Bootstraps the JUnit platform using the Jupiter engine and executes configured TCK tests.
+ * Bootstraps the JUnit platform using the Jupiter engine and executes configured TCK tests. Metrics recorded during
+ * the run are written to the monitor once all tests have completed.
  */
 public class TckRuntime {
     private static final String TEST_POSTFIX = ".*Test";
+    private static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+    private static final String PARALLEL_MODE = "junit.jupiter.execution.parallel.mode.default";
+    private static final String PARALLEL_CLASSES_MODE = "junit.jupiter.execution.parallel.mode.classes.default";
+    private static final String PARALLEL_STRATEGY = "junit.jupiter.execution.parallel.config.strategy";
+    private static final String PARALLELISM = "junit.jupiter.execution.parallel.config.fixed.parallelism";
     private final List<String> packages = new ArrayList<>();
     private final Map<String, String> properties = new HashMap<>();
     private Monitor monitor;
     private Class<? extends SystemLauncher> launcher;
     private Predicate<String> displayNameMatching;
+    private int parallelism = 1;
 
     private TckRuntime() {
     }
 
     public TestExecutionSummary execute() {
-        if (launcher != null) {
-            properties.put(TCK_LAUNCHER, launcher.getName());
+        applyProperties();
+
+        var summaryListener = new SummaryGeneratingListener();
+
+        var requestBuilder = createRequestBuilder();
+        if (parallelism > 1) {
+            // test classes run concurrently, the tests of a class in sequence; each test receives callbacks on its own path
+            requestBuilder.configurationParameter(PARALLEL_ENABLED, "true")
+                    .configurationParameter(PARALLEL_MODE, "same_thread")
+                    .configurationParameter(PARALLEL_CLASSES_MODE, "concurrent")
+                    .configurationParameter(PARALLEL_STRATEGY, "fixed")
+                    .configurationParameter(PARALLELISM, String.valueOf(parallelism))
+                    .configurationParameter(TCK_CALLBACK_SCOPED, "true");
         }
 
-        properties.forEach(System::setProperty);
+        var request = requestBuilder.build();
+        var launcher = LauncherFactory.create();
+        launcher.registerTestExecutionListeners(new TckExecutionListener(monitor));
+        launcher.registerTestExecutionListeners(summaryListener);
+        var metrics = new DefaultMetrics();
+        useMetrics(metrics);
+        try {
+            launcher.discover(request);
+            launcher.execute(request);
+        } finally {
+            useMetrics(null);
+            clearProperties();
+        }
+        if (monitor != null) {
+            new ConsoleMetricsWriter(monitor).output(metrics);
+        }
+        return summaryListener.getSummary();
+    }
 
-        var summaryListener = new SummaryGeneratingListener();
+    /**
+     * Repeats the selected tests as load scenarios against the connector under test and reports the throughput, error
+     * rate and latency percentiles of each scenario and protocol step. The parallelism setting is not used; concurrency
+     * is configured by the profile.
+     *
+     * @param profile the load profile.
+     * @return the result of the load run.
+     */
+    public LoadSummary executeLoad(LoadProfile profile) {
+        applyProperties();
+        LoadSummary summary;
+        try {
+            summary = new LoadGenerator(profile).run(createRequestBuilder().build());
+        } finally {
+            clearProperties();
+        }
+        if (monitor != null) {
+            new ConsoleMetricsWriter(monitor).output(summary);
+        }
+        return summary;
+    }
 
+    private LauncherDiscoveryRequestBuilder createRequestBuilder() {
         var requestBuilder = LauncherDiscoveryRequestBuilder.request()
                 .filters(includeClassNamePatterns(TEST_POSTFIX))
                 .selectors(packages.stream().map(DiscoverySelectors::selectPackage).toList());
 
-
         if (displayNameMatching != null) {
             requestBuilder.filters((PostDiscoveryFilter) descriptor -> displayNameMatching.test(descriptor.getDisplayName())
                     ? FilterResult.included("Matches display name")
                     : FilterResult.excluded("Does not match display name"));
         }
+        return requestBuilder;
+    }
 
-        var request = requestBuilder.build();
-        var launcher = LauncherFactory.create();
-        launcher.registerTestExecutionListeners(new TckExecutionListener(monitor));
-        launcher.registerTestExecutionListeners(summaryListener);
-        launcher.discover(request);
-        launcher.execute(request);
+    private void applyProperties() {
+        if (launcher != null) {
+            properties.put(TCK_LAUNCHER, launcher.getName());
+        }
+        properties.forEach(System::setProperty);
+    }
+
+    private void clearProperties() {
         properties.forEach((k, v) -> System.clearProperty(k));
-        return summaryListener.getSummary();
     }
 
     public static class Builder {
@@ -125,6 +186,22 @@ public class TckRuntime {
             return this;
         }
 
+        /**
+         * Executes test classes in parallel with the given number of threads. Each test receives callbacks on a path
+         * unique to the test, so the connector under test must use the callback address sent in the DSP messages.
+         * A value of 1, the default, executes tests sequentially.
+         *
+         * @param parallelism the number of test classes executed concurrently.
+         * @return the builder.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            runtime.parallelism = parallelism;
+            return this;
+        }
+
         public TckRuntime build() {
             return runtime;
         }
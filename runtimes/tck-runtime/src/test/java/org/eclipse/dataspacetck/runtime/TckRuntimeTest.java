@@ -20,6 +20,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
 import static org.mockito.Mockito.mock;
@@ -95,6 +97,39 @@ public class TckRuntimeTest {
         assertThat(summary.getTestsFoundCount()).isEqualTo(1);
     }
 
+    @Test
+    void canExecuteInParallel() {
+        var runtime = TckRuntime.Builder.newInstance()
+                .monitor(mock())
+                .launcher(TestSystemLauncher.class)
+                .addPackage("org.eclipse.dataspacetck.runtime.test")
+                .parallelism(2)
+                .build();
+
+        var summary = runtime.execute();
+
+        assertThat(summary.getFailures()).isEmpty();
+        assertThat(summary.getTestsSucceededCount()).isEqualTo(2);
+    }
+
+    @Test
+    void canExecuteLoad() {
+        var runtime = TckRuntime.Builder.newInstance()
+                .monitor(mock())
+                .launcher(TestSystemLauncher.class)
+                .addPackage("org.eclipse.dataspacetck.runtime.test")
+                .build();
+
+        var summary = runtime.executeLoad(LoadProfile.Builder.newInstance()
+                .concurrency(2)
+                .duration(Duration.ofMillis(500))
+                .build());
+
+        assertThat(summary.iterations()).isGreaterThan(0);
+        assertThat(summary.failures()).isZero();
+        assertThat(summary.metrics().getTimers()).containsKeys("scenario name()", "scenario FILTER");
+    }
+
     public static class TestSystemLauncher implements SystemLauncher {
 
         @Override
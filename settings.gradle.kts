@@ -37,3 +37,4 @@ include("dsp:dsp-transfer-process")
 include("dsp:dsp-catalog")
 include("dsp:dsp-metadata")
 include("dsp:dsp-tck")
+include("benchmarks")